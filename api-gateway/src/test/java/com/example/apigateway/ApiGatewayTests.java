@@ -1,11 +1,9 @@
 package com.example.apigateway;
 
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
-import org.testcontainers.localstack.LocalStackContainer;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
-import org.testcontainers.utility.DockerImageName;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
@@ -27,14 +25,11 @@ import java.util.Collections;
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
 
-@Testcontainers
 @EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources("apigateway")
 class ApiGatewayTests {
 
-	@Container
-	private static final LocalStackContainer localstack = new LocalStackContainer(
-			DockerImageName.parse("localstack/localstack:2026.06.0"))
-		.withEnv("LOCALSTACK_AUTH_TOKEN", System.getenv("LOCALSTACK_AUTH_TOKEN"));
+	private static final LocalStackNamespace localstack = LocalStackNamespace.forClass(ApiGatewayTests.class);
 
 	@Test
 	void test() {
@@ -97,7 +92,7 @@ class ApiGatewayTests {
 
 			String body = given()
 				.baseUri("http://%s.execute-api.localhost.localstack.cloud:%d".formatted(restApiId,
-						localstack.getMappedPort(4566)))
+						localstack.getEndpoint().getPort()))
 				.queryParam("name", "World")
 				.get("/test/example")
 				.body()
@@ -0,0 +1,62 @@
+package com.example.benchmarks;
+
+import com.example.localstack.LocalStackNamespace;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+
+/**
+ * A {@link SqsAsyncClient} bound to its own {@link LocalStackNamespace} of the shared
+ * LocalStack container.
+ */
+final class LocalStackSqs implements AutoCloseable {
+
+	private static final int MAX_CONNECTIONS = 256;
+
+	private final LocalStackNamespace namespace;
+
+	private final SqsAsyncClient client;
+
+	private LocalStackSqs(LocalStackNamespace namespace, SqsAsyncClient client) {
+		this.namespace = namespace;
+		this.client = client;
+	}
+
+	static LocalStackSqs create(Class<?> benchmarkClass) {
+		if (!StringUtils.hasText(System.getenv("LOCALSTACK_AUTH_TOKEN"))) {
+			throw new IllegalStateException("LOCALSTACK_AUTH_TOKEN must be set to run the benchmarks");
+		}
+		LocalStackNamespace namespace = LocalStackNamespace.forClass(benchmarkClass);
+		SqsAsyncClient client = SqsAsyncClient.builder()
+			.region(Region.of(namespace.getRegion()))
+			.credentialsProvider(StaticCredentialsProvider
+				.create(AwsBasicCredentials.create(namespace.getAccessKey(), namespace.getSecretKey())))
+			.endpointOverride(namespace.getEndpoint())
+			.httpClientBuilder(NettyNioAsyncHttpClient.builder().maxConcurrency(MAX_CONNECTIONS))
+			.build();
+		return new LocalStackSqs(namespace, client);
+	}
+
+	SqsAsyncClient getClient() {
+		return this.client;
+	}
+
+	String createQueue(String name) {
+		this.client.createQueue(builder -> builder.queueName(name)).join();
+		return name;
+	}
+
+	void deleteQueue(String name) {
+		String queueUrl = this.client.getQueueUrl(builder -> builder.queueName(name)).join().queueUrl();
+		this.client.deleteQueue(builder -> builder.queueUrl(queueUrl)).join();
+	}
+
+	@Override
+	public void close() {
+		this.client.close();
+	}
+
+}
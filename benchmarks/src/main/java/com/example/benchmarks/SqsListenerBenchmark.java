@@ -0,0 +1,155 @@
+package com.example.benchmarks;
+
+import io.awspring.cloud.sqs.listener.SqsMessageListenerContainer;
+import io.awspring.cloud.sqs.operations.SqsTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.springframework.messaging.Message;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end delivery from {@link SqsTemplate} to a {@link SqsMessageListenerContainer}
+ * for different listener settings and payload sizes. Both benchmarks keep
+ * {@value #OUTSTANDING} messages in flight, more than the largest
+ * {@code maxConcurrentMessages}, so that the listener rather than the benchmark threads
+ * bounds concurrency. {@link #throughput()} sends open loop within that window and
+ * reports messages per second, {@link #latency()} measures round trips, including p50 and
+ * p99, while background messages keep the window full.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(16)
+@Fork(1)
+public class SqsListenerBenchmark {
+
+	private static final String ID_HEADER = "benchmark-id";
+
+	private static final String BACKGROUND_HEADER = "benchmark-background";
+
+	private static final int OUTSTANDING = 200;
+
+	@Param({ "10", "100" })
+	private int maxConcurrentMessages;
+
+	@Param({ "1", "10" })
+	private int maxMessagesPerPoll;
+
+	@Param({ "256", "16384" })
+	private int payloadSize;
+
+	private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private final Semaphore window = new Semaphore(OUTSTANDING);
+
+	private LocalStackSqs localstack;
+
+	private SqsTemplate sqsTemplate;
+
+	private SqsMessageListenerContainer<String> container;
+
+	private String queue;
+
+	private String payload;
+
+	@Setup(Level.Trial)
+	public void setUp(BenchmarkParams params) {
+		this.localstack = LocalStackSqs.create(SqsListenerBenchmark.class);
+		this.queue = this.localstack.createQueue("listener-benchmark");
+		this.sqsTemplate = SqsTemplate.newTemplate(this.localstack.getClient());
+		this.payload = "x".repeat(this.payloadSize);
+		this.container = SqsMessageListenerContainer.<String>builder()
+			.sqsAsyncClient(this.localstack.getClient())
+			.queueNames(this.queue)
+			.configure(options -> options.maxConcurrentMessages(this.maxConcurrentMessages)
+				.maxMessagesPerPoll(this.maxMessagesPerPoll)
+				.pollTimeout(Duration.ofSeconds(1)))
+			.messageListener(this::onMessage)
+			.build();
+		this.container.start();
+		if (params.getBenchmark().endsWith("latency")) {
+			for (int i = 0; i < OUTSTANDING; i++) {
+				sendBackground();
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.container.stop();
+		this.localstack.close();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	public void throughput() throws Exception {
+		this.window.acquire();
+		// A message that was never sent is never received to release its permit
+		this.sqsTemplate.<String>sendAsync(to -> to.queue(this.queue).payload(this.payload))
+			.whenComplete((result, ex) -> {
+				if (ex != null) {
+					this.window.release();
+				}
+			});
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SampleTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public void latency() throws Exception {
+		roundTrip();
+	}
+
+	private void roundTrip() throws Exception {
+		String id = Long.toString(this.sequence.incrementAndGet());
+		CompletableFuture<Void> received = new CompletableFuture<>();
+		this.inFlight.put(id, received);
+		this.sqsTemplate.<String>send(to -> to.queue(this.queue).payload(this.payload).header(ID_HEADER, id));
+		received.get(30, TimeUnit.SECONDS);
+	}
+
+	private void sendBackground() {
+		this.sqsTemplate
+			.<String>sendAsync(to -> to.queue(this.queue).payload(this.payload).header(BACKGROUND_HEADER, "true"));
+	}
+
+	private void onMessage(Message<String> message) {
+		String id = message.getHeaders().get(ID_HEADER, String.class);
+		if (id != null) {
+			CompletableFuture<Void> received = this.inFlight.remove(id);
+			if (received != null) {
+				received.complete(null);
+			}
+		}
+		else if (message.getHeaders().containsKey(BACKGROUND_HEADER)) {
+			sendBackground();
+		}
+		else {
+			this.window.release();
+		}
+	}
+
+}
@@ -0,0 +1,94 @@
+package com.example.benchmarks;
+
+import io.awspring.cloud.sqs.operations.SendResult;
+import io.awspring.cloud.sqs.operations.SqsTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Messages per second sent through {@link SqsTemplate#send(String, Object)} and
+ * {@link SqsTemplate#sendMany(String, java.util.Collection)}. Each iteration writes to a
+ * fresh queue so LocalStack does not accumulate the messages of the whole run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(8)
+@Fork(1)
+public class SqsTemplateSendBenchmark {
+
+	private static final int BATCH_SIZE = 10;
+
+	@Param({ "256", "4096", "16384" })
+	private int payloadSize;
+
+	private LocalStackSqs localstack;
+
+	private SqsTemplate sqsTemplate;
+
+	private String payload;
+
+	private List<Message<String>> batch;
+
+	private String queue;
+
+	private int iteration;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.localstack = LocalStackSqs.create(SqsTemplateSendBenchmark.class);
+		this.sqsTemplate = SqsTemplate.newTemplate(this.localstack.getClient());
+		this.payload = "x".repeat(this.payloadSize);
+		this.batch = IntStream.range(0, BATCH_SIZE)
+			.mapToObj(i -> MessageBuilder.withPayload(this.payload).build())
+			.toList();
+	}
+
+	@Setup(Level.Iteration)
+	public void createQueue() {
+		this.queue = this.localstack.createQueue("send-benchmark-" + this.iteration++);
+	}
+
+	@TearDown(Level.Iteration)
+	public void deleteQueue() {
+		this.localstack.deleteQueue(this.queue);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.localstack.close();
+	}
+
+	@Benchmark
+	public SendResult<String> send() {
+		return this.sqsTemplate.send(this.queue, this.payload);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public SendResult.Batch<String> sendMany() {
+		return this.sqsTemplate.sendMany(this.queue, this.batch);
+	}
+
+}
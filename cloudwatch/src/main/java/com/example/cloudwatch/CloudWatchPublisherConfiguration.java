@@ -0,0 +1,38 @@
+package com.example.cloudwatch;
+
+import io.awspring.cloud.autoconfigure.metrics.CloudWatchAsyncClientCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+
+/**
+ * Sizes the HTTP client of the metrics {@code CloudWatchAsyncClient} and attaches a
+ * {@link PutMetricDataInterceptor} to it.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(CloudWatchPublisherProperties.class)
+class CloudWatchPublisherConfiguration {
+
+	@Bean
+	PutMetricDataInterceptor putMetricDataInterceptor() {
+		return new PutMetricDataInterceptor();
+	}
+
+	@Bean
+	CloudWatchAsyncClientCustomizer cloudWatchPublisherCustomizer(CloudWatchPublisherProperties properties,
+			PutMetricDataInterceptor interceptor) {
+		return (builder) -> {
+			builder.httpClientBuilder(NettyNioAsyncHttpClient.builder()
+				.maxConcurrency(properties.maxConcurrency())
+				.connectionAcquisitionTimeout(properties.connectionAcquisitionTimeout()));
+			ClientOverrideConfiguration overrideConfiguration = builder.overrideConfiguration();
+			builder.overrideConfiguration(((overrideConfiguration != null) ? overrideConfiguration.toBuilder()
+					: ClientOverrideConfiguration.builder())
+				.addExecutionInterceptor(interceptor)
+				.build());
+		};
+	}
+
+}
@@ -0,0 +1,17 @@
+package com.example.cloudwatch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * HTTP client settings of the {@code CloudWatchAsyncClient} used by the meter registry.
+ * The number of datums per {@code PutMetricData} call is set with
+ * {@code management.cloudwatch.metrics.export.batch-size}.
+ */
+@ConfigurationProperties("sample.cloudwatch.publisher")
+public record CloudWatchPublisherProperties(@DefaultValue("50") int maxConcurrency,
+		@DefaultValue("10s") Duration connectionAcquisitionTimeout) {
+
+}
@@ -0,0 +1,31 @@
+package com.example.cloudwatch;
+
+import io.awspring.cloud.autoconfigure.core.AwsClientBuilderConfigurer;
+import io.micrometer.core.instrument.Clock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsAsyncClient;
+
+/**
+ * Publishes metrics as Embedded Metric Format log events instead of, or next to,
+ * {@code PutMetricData}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty("sample.cloudwatch.emf.enabled")
+@EnableConfigurationProperties(EmfProperties.class)
+class EmfExportConfiguration {
+
+	@Bean
+	CloudWatchLogsAsyncClient cloudWatchLogsAsyncClient(AwsClientBuilderConfigurer awsClientBuilderConfigurer) {
+		return awsClientBuilderConfigurer.configure(CloudWatchLogsAsyncClient.builder()).build();
+	}
+
+	@Bean
+	EmfMeterRegistry emfMeterRegistry(EmfProperties properties, Clock clock,
+			CloudWatchLogsAsyncClient cloudWatchLogsAsyncClient) {
+		return new EmfMeterRegistry(properties, clock, cloudWatchLogsAsyncClient);
+	}
+
+}
@@ -0,0 +1,243 @@
+package com.example.cloudwatch;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.step.StepMeterRegistry;
+import io.micrometer.core.instrument.step.StepRegistryConfig;
+import io.micrometer.core.instrument.util.NamedThreadFactory;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsAsyncClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.InputLogEvent;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceAlreadyExistsException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Step registry that writes each meter as one CloudWatch Embedded Metric Format event and
+ * sends the events of a step with as few {@code PutLogEvents} calls as the API limits
+ * allow. CloudWatch extracts the metrics from the log events, so the metric names
+ * ({@code http.server.requests.count}, {@code .sum}, {@code .max}, {@code .avg}) and
+ * dimensions match those of {@code CloudWatchMeterRegistry}. The log group and stream are
+ * created on the first publish.
+ */
+public class EmfMeterRegistry extends StepMeterRegistry {
+
+	private static final int MAX_EVENTS_PER_CALL = 10_000;
+
+	private static final int MAX_BYTES_PER_CALL = 1_048_576;
+
+	private static final int EVENT_OVERHEAD_BYTES = 26;
+
+	private static final int MAX_DIMENSIONS = 30;
+
+	private static final Log logger = LogFactory.getLog(EmfMeterRegistry.class);
+
+	private final EmfProperties properties;
+
+	private final CloudWatchLogsAsyncClient logsClient;
+
+	private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+	private final LongAdder putLogEventsCalls = new LongAdder();
+
+	private final LongAdder events = new LongAdder();
+
+	private final LongAdder droppedEvents = new LongAdder();
+
+	private volatile boolean logStreamCreated;
+
+	public EmfMeterRegistry(EmfProperties properties, Clock clock, CloudWatchLogsAsyncClient logsClient) {
+		super(new EmfStepRegistryConfig(properties), clock);
+		this.properties = properties;
+		this.logsClient = logsClient;
+		start(new NamedThreadFactory("emf-metrics-publisher"));
+	}
+
+	private boolean createLogStream() {
+		if (this.logStreamCreated) {
+			return true;
+		}
+		try {
+			ignoreAlreadyExists(
+					this.logsClient.createLogGroup((request) -> request.logGroupName(this.properties.logGroup())));
+			ignoreAlreadyExists(
+					this.logsClient.createLogStream((request) -> request.logGroupName(this.properties.logGroup())
+						.logStreamName(this.properties.logStream())));
+			this.logStreamCreated = true;
+		}
+		catch (CompletionException ex) {
+			logger.warn("Failed to create log stream " + this.properties.logStream(), ex);
+		}
+		return this.logStreamCreated;
+	}
+
+	private static void ignoreAlreadyExists(CompletableFuture<?> future) {
+		try {
+			future.join();
+		}
+		catch (CompletionException ex) {
+			if (!(ex.getCause() instanceof ResourceAlreadyExistsException)) {
+				throw ex;
+			}
+		}
+	}
+
+	@Override
+	protected void publish() {
+		long timestamp = this.clock.wallTime();
+		List<InputLogEvent> batch = new ArrayList<>();
+		int batchBytes = 0;
+		for (Meter meter : getMeters()) {
+			String message = event(meter, timestamp);
+			if (message == null) {
+				continue;
+			}
+			int bytes = message.getBytes(StandardCharsets.UTF_8).length + EVENT_OVERHEAD_BYTES;
+			if (batch.size() == MAX_EVENTS_PER_CALL || batchBytes + bytes > MAX_BYTES_PER_CALL) {
+				send(batch);
+				batch = new ArrayList<>();
+				batchBytes = 0;
+			}
+			batch.add(InputLogEvent.builder().timestamp(timestamp).message(message).build());
+			batchBytes += bytes;
+		}
+		if (!batch.isEmpty()) {
+			send(batch);
+		}
+	}
+
+	private void send(List<InputLogEvent> batch) {
+		if (!createLogStream()) {
+			this.droppedEvents.add(batch.size());
+			return;
+		}
+		this.putLogEventsCalls.increment();
+		try {
+			this.logsClient
+				.putLogEvents((request) -> request.logGroupName(this.properties.logGroup())
+					.logStreamName(this.properties.logStream())
+					.logEvents(batch))
+				.get(this.properties.readTimeout().toMillis(), TimeUnit.MILLISECONDS);
+			this.events.add(batch.size());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			this.droppedEvents.add(batch.size());
+		}
+		catch (ExecutionException | TimeoutException ex) {
+			logger.warn("Failed to send %d EMF events".formatted(batch.size()), ex);
+			this.droppedEvents.add(batch.size());
+		}
+	}
+
+	private String event(Meter meter, long timestamp) {
+		List<Metric> metrics = metrics(meter).stream().filter((metric) -> Double.isFinite(metric.value())).toList();
+		if (metrics.isEmpty()) {
+			return null;
+		}
+		List<Tag> tags = getConventionTags(meter.getId()).stream()
+			.filter((tag) -> !tag.getValue().isBlank())
+			.limit(MAX_DIMENSIONS)
+			.toList();
+		Map<String, Object> directive = new LinkedHashMap<>();
+		directive.put("Namespace", this.properties.namespace());
+		directive.put("Dimensions", List.of(tags.stream().map(Tag::getKey).toList()));
+		directive.put("Metrics",
+				metrics.stream().map((metric) -> Map.of("Name", metric.name(), "Unit", metric.unit())).toList());
+		Map<String, Object> event = new LinkedHashMap<>();
+		event.put("_aws", Map.of("Timestamp", timestamp, "CloudWatchMetrics", List.of(directive)));
+		tags.forEach((tag) -> event.put(tag.getKey(), tag.getValue()));
+		metrics.forEach((metric) -> event.put(metric.name(), metric.value()));
+		return this.jsonMapper.writeValueAsString(event);
+	}
+
+	private List<Metric> metrics(Meter meter) {
+		String name = getConventionName(meter.getId());
+		String timeUnit = "Milliseconds";
+		return meter.match((gauge) -> List.of(new Metric(name + ".value", gauge.value(), "None")),
+				(counter) -> List.of(new Metric(name + ".count", counter.count(), "Count")),
+				(timer) -> stats(name, timer.count(), timer.totalTime(getBaseTimeUnit()), timer.max(getBaseTimeUnit()),
+						timeUnit),
+				(summary) -> stats(name, summary.count(), summary.totalAmount(), summary.max(), "None"),
+				(longTaskTimer) -> List.of(new Metric(name + ".activeTasks", longTaskTimer.activeTasks(), "Count"),
+						new Metric(name + ".duration", longTaskTimer.duration(getBaseTimeUnit()), timeUnit)),
+				(timeGauge) -> List.of(new Metric(name + ".value", timeGauge.value(getBaseTimeUnit()), timeUnit)),
+				(functionCounter) -> List.of(new Metric(name + ".count", functionCounter.count(), "Count")),
+				(functionTimer) -> stats(name, (long) functionTimer.count(), functionTimer.totalTime(getBaseTimeUnit()),
+						Double.NaN, timeUnit),
+				(other) -> {
+					List<Metric> measurements = new ArrayList<>();
+					other.measure()
+						.forEach((measurement) -> measurements
+							.add(new Metric(name + "." + measurement.getStatistic().getTagValueRepresentation(),
+									measurement.getValue(), "None")));
+					return measurements;
+				});
+	}
+
+	private static List<Metric> stats(String name, long count, double total, double max, String unit) {
+		List<Metric> metrics = new ArrayList<>(4);
+		metrics.add(new Metric(name + ".count", count, "Count"));
+		metrics.add(new Metric(name + ".sum", total, unit));
+		metrics.add(new Metric(name + ".max", max, unit));
+		if (count > 0) {
+			metrics.add(new Metric(name + ".avg", total / count, unit));
+		}
+		return metrics;
+	}
+
+	@Override
+	protected TimeUnit getBaseTimeUnit() {
+		return TimeUnit.MILLISECONDS;
+	}
+
+	public long getPutLogEventsCount() {
+		return this.putLogEventsCalls.sum();
+	}
+
+	public long getEventCount() {
+		return this.events.sum();
+	}
+
+	public long getDroppedEventCount() {
+		return this.droppedEvents.sum();
+	}
+
+	private record Metric(String name, double value, String unit) {
+
+	}
+
+	private record EmfStepRegistryConfig(EmfProperties properties) implements StepRegistryConfig {
+
+		@Override
+		public String prefix() {
+			return "sample.cloudwatch.emf";
+		}
+
+		@Override
+		public String get(String key) {
+			return null;
+		}
+
+		@Override
+		public Duration step() {
+			return this.properties.step();
+		}
+
+	}
+
+}
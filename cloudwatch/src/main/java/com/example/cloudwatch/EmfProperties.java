@@ -0,0 +1,19 @@
+package com.example.cloudwatch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the {@link EmfMeterRegistry}, enabled with
+ * {@code sample.cloudwatch.emf.enabled=true}. Set
+ * {@code spring.cloud.aws.cloudwatch.enabled=false} as well to stop publishing the same
+ * meters with {@code PutMetricData}.
+ */
+@ConfigurationProperties("sample.cloudwatch.emf")
+public record EmfProperties(@DefaultValue("spring-emf") String namespace,
+		@DefaultValue("/metrics/cloudwatch") String logGroup, @DefaultValue("emf") String logStream,
+		@DefaultValue("1m") Duration step, @DefaultValue("10s") Duration readTimeout) {
+
+}
@@ -0,0 +1,100 @@
+package com.example.cloudwatch;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.services.cloudwatch.model.PutMetricDataRequest;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how the meter registry uses {@code PutMetricData}: calls, datums per call,
+ * latency including SDK retries, and the datums lost with calls that finally failed. Kept
+ * outside of the meter registry, as that registry depends on the client this interceptor
+ * is attached to.
+ */
+public class PutMetricDataInterceptor implements ExecutionInterceptor {
+
+	private static final ExecutionAttribute<PutMetricDataRequest> REQUEST = new ExecutionAttribute<>(
+			"PutMetricDataRequest");
+
+	private static final ExecutionAttribute<Long> START = new ExecutionAttribute<>("PutMetricDataStart");
+
+	private final LongAdder requests = new LongAdder();
+
+	private final LongAdder datums = new LongAdder();
+
+	private final LongAccumulator maxBatchSize = new LongAccumulator(Math::max, 0);
+
+	private final LongAdder failedRequests = new LongAdder();
+
+	private final LongAdder throttledRequests = new LongAdder();
+
+	private final LongAdder droppedDatums = new LongAdder();
+
+	private final LongAdder totalLatency = new LongAdder();
+
+	private final LongAccumulator maxLatency = new LongAccumulator(Math::max, 0);
+
+	@Override
+	public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+		if (context.request() instanceof PutMetricDataRequest request) {
+			executionAttributes.putAttribute(REQUEST, request);
+			executionAttributes.putAttribute(START, System.nanoTime());
+			this.requests.increment();
+			this.datums.add(request.metricData().size());
+			this.maxBatchSize.accumulate(request.metricData().size());
+		}
+	}
+
+	@Override
+	public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+		recordLatency(executionAttributes);
+	}
+
+	@Override
+	public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+		PutMetricDataRequest request = executionAttributes.getAttribute(REQUEST);
+		if (request != null) {
+			recordLatency(executionAttributes);
+			this.failedRequests.increment();
+			this.droppedDatums.add(request.metricData().size());
+			if (context.exception() instanceof AwsServiceException ex && ex.isThrottlingException()) {
+				this.throttledRequests.increment();
+			}
+		}
+	}
+
+	private void recordLatency(ExecutionAttributes executionAttributes) {
+		Long start = executionAttributes.getAttribute(START);
+		if (start != null) {
+			long latency = System.nanoTime() - start;
+			this.totalLatency.add(latency);
+			this.maxLatency.accumulate(latency);
+		}
+	}
+
+	public Statistics statistics() {
+		return new Statistics(this.requests.sum(), this.datums.sum(), this.maxBatchSize.get(),
+				this.failedRequests.sum(), this.throttledRequests.sum(), this.droppedDatums.sum(),
+				Duration.ofNanos(this.totalLatency.sum()), Duration.ofNanos(this.maxLatency.get()));
+	}
+
+	public record Statistics(long requests, long datums, long maxBatchSize, long failedRequests, long throttledRequests,
+			long droppedDatums, Duration totalLatency, Duration maxLatency) {
+
+		public double averageBatchSize() {
+			return (this.requests > 0) ? (double) this.datums / this.requests : 0;
+		}
+
+		public Duration averageLatency() {
+			return (this.requests > 0) ? this.totalLatency.dividedBy(this.requests) : Duration.ZERO;
+		}
+
+	}
+
+}
@@ -0,0 +1,118 @@
+package com.example.cloudwatch;
+
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
+import io.restassured.RestAssured;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.micrometer.metrics.test.autoconfigure.AutoConfigureMetrics;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import software.amazon.awssdk.services.cloudwatch.CloudWatchAsyncClient;
+import software.amazon.awssdk.services.cloudwatch.model.Dimension;
+import software.amazon.awssdk.services.cloudwatch.model.Metric;
+import software.amazon.awssdk.services.cloudwatch.model.MetricDataResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.equalTo;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT,
+		properties = { "management.cloudwatch.metrics.export.step=5s", "management.metrics.enable.all=false",
+				"management.metrics.enable.http=true" })
+@AutoConfigureMetrics
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources("cloudwatch")
+class CloudWatchPercentilesTests {
+
+	private static final Log logger = LogFactory.getLog(CloudWatchPercentilesTests.class);
+
+	private static LocalStackNamespace localstack = LocalStackNamespace.forClass(CloudWatchPercentilesTests.class);
+
+	@Autowired
+	private CloudWatchAsyncClient cloudWatchAsyncClient;
+
+	@LocalServerPort
+	private int localPort;
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		localstack.registerProperties(registry);
+		registry.add("management.cloudwatch.metrics.export.namespace", () -> localstack.name("percentiles"));
+	}
+
+	@Test
+	void percentilesAndSloBucketsArePublished() {
+		Instant startTime = Instant.now();
+		for (int i = 0; i < 200; i++) {
+			RestAssured.given()
+				.port(this.localPort)
+				.get("/greetings/{name}", "name-" + i)
+				.then()
+				.assertThat()
+				.body(equalTo("Hello name-" + i));
+		}
+
+		await().atMost(Duration.ofSeconds(30))
+			.pollInterval(Duration.ofSeconds(5))
+			.ignoreExceptions()
+			.untilAsserted(() -> {
+				Map<String, Double> percentiles = maxima("http.server.requests.percentile.value", "phi", startTime);
+				Map<String, Double> buckets = maxima("http.server.requests.histogram.value", "le", startTime);
+				logger.info("Percentiles (ms): %s, SLO bucket counts: %s".formatted(percentiles, buckets));
+
+				assertThat(percentiles).containsOnlyKeys("0.5", "0.95", "0.99");
+				assertThat(percentiles.get("0.5")).isPositive().isLessThanOrEqualTo(percentiles.get("0.95"));
+				assertThat(percentiles.get("0.95")).isLessThanOrEqualTo(percentiles.get("0.99"));
+				assertThat(buckets).hasSize(5);
+				assertThat(List.copyOf(buckets.values())).isSorted();
+				assertThat(buckets.values()).anyMatch((count) -> count > 0);
+			});
+	}
+
+	/**
+	 * Returns the maximum of each series of the metric within the test, keyed by the
+	 * value of the given dimension of the {@code /greetings/{name}} requests.
+	 */
+	private Map<String, Double> maxima(String metricName, String dimensionName, Instant startTime) throws Exception {
+		List<Metric> metrics = this.cloudWatchAsyncClient
+			.listMetrics((request) -> request.namespace(localstack.name("percentiles"))
+				.metricName(metricName)
+				.dimensions((filter) -> filter.name("uri").value("/greetings/{name}")))
+			.get()
+			.metrics();
+		Map<String, Double> values = new TreeMap<>(
+				(left, right) -> Double.compare(Double.parseDouble(left), Double.parseDouble(right)));
+		for (Metric metric : metrics) {
+			String key = metric.dimensions()
+				.stream()
+				.filter((dimension) -> dimension.name().equals(dimensionName))
+				.map(Dimension::value)
+				.findFirst()
+				.orElseThrow();
+			MetricDataResult result = this.cloudWatchAsyncClient
+				.getMetricData((request) -> request.startTime(startTime.minusSeconds(60))
+					.endTime(Instant.now().plusSeconds(60))
+					.metricDataQueries((query) -> query.id("m")
+						.metricStat((stat) -> stat.stat("Maximum").period(300).metric(metric))))
+				.get()
+				.metricDataResults()
+				.get(0);
+			values.put(key, result.values().stream().mapToDouble(Double::doubleValue).max().orElse(0));
+		}
+		return values;
+	}
+
+}
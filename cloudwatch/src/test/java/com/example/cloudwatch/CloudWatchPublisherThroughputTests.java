@@ -0,0 +1,128 @@
+package com.example.cloudwatch;
+
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources(value = "cloudwatch", exclusive = true)
+class CloudWatchPublisherThroughputTests {
+
+	private static final Log logger = LogFactory.getLog(CloudWatchPublisherThroughputTests.class);
+
+	private static final int NAMES = Integer.getInteger("cloudwatch.publisher.names", 2_000);
+
+	private static final int CLIENTS = Integer.getInteger("cloudwatch.publisher.clients", 64);
+
+	private static final Duration LOAD = Duration.ofSeconds(Integer.getInteger("cloudwatch.publisher.seconds", 20));
+
+	private static LocalStackNamespace localstack = LocalStackNamespace
+		.forClass(CloudWatchPublisherThroughputTests.class);
+
+	@Test
+	void largerBatchesPublishTheSameDataWithFewerCalls() throws Exception {
+		List<Result> results = List.of(run(20, 50), run(1000, 50), run(1000, 1));
+
+		for (Result result : results) {
+			logger.info(result.toString());
+		}
+
+		Result small = results.get(0);
+		Result large = results.get(1);
+		assertThat(small.statistics().maxBatchSize()).isLessThanOrEqualTo(20);
+		assertThat(large.statistics().datums()).isPositive();
+		assertThat(large.statistics().requests()).isLessThan(small.statistics().requests());
+	}
+
+	private Result run(int batchSize, int maxConcurrency) throws Exception {
+		Map<String, Object> properties = new HashMap<>();
+		localstack.registerProperties((name, value) -> properties.put(name, value.get()));
+		properties.put("server.port", 0);
+		properties.put("management.cloudwatch.metrics.export.namespace",
+				localstack.name("publisher-" + batchSize + "-" + maxConcurrency));
+		properties.put("management.cloudwatch.metrics.export.step", "5s");
+		properties.put("management.cloudwatch.metrics.export.batch-size", batchSize);
+		properties.put("management.metrics.enable.all", false);
+		properties.put("management.metrics.enable.http", true);
+		properties.put("sample.cloudwatch.publisher.max-concurrency", maxConcurrency);
+
+		PutMetricDataInterceptor interceptor;
+		double throughput;
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CloudwatchApplication.class,
+				RawUriObservationConfiguration.class)
+			.properties(properties)
+			.run()) {
+			interceptor = context.getBean(PutMetricDataInterceptor.class);
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			throughput = drive(port);
+		}
+		// Closing the context publishes the last step.
+		return new Result(batchSize, maxConcurrency, throughput, interceptor.statistics());
+	}
+
+	private double drive(int port) throws Exception {
+		LongAdder completed = new LongAdder();
+		long start = System.nanoTime();
+		long end = start + LOAD.toNanos();
+		try (HttpClient client = HttpClient.newHttpClient();
+				ExecutorService executor = Executors.newFixedThreadPool(CLIENTS)) {
+			List<Future<?>> clients = new ArrayList<>();
+			for (int c = 0; c < CLIENTS; c++) {
+				int offset = c;
+				clients.add(executor.submit(() -> {
+					for (int i = offset; System.nanoTime() < end; i += CLIENTS) {
+						HttpRequest request = HttpRequest
+							.newBuilder(URI.create("http://localhost:%d/greetings/name-%d".formatted(port, i % NAMES)))
+							.build();
+						HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+						assertThat(response.statusCode()).isEqualTo(200);
+						completed.increment();
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : clients) {
+				future.get();
+			}
+		}
+		return completed.sum() * 1_000_000_000.0 / (System.nanoTime() - start);
+	}
+
+	record Result(int batchSize, int maxConcurrency, double throughput,
+			PutMetricDataInterceptor.Statistics statistics) {
+
+		@Override
+		public String toString() {
+			return ("batch size %d, max concurrency %d: %.0f req/s, %d calls, %d datums (%.1f per call), "
+					+ "%d failed, %d throttled, %d datums dropped, latency %d ms avg, %d ms max")
+				.formatted(this.batchSize, this.maxConcurrency, this.throughput, this.statistics.requests(),
+						this.statistics.datums(), this.statistics.averageBatchSize(), this.statistics.failedRequests(),
+						this.statistics.throttledRequests(), this.statistics.droppedDatums(),
+						this.statistics.averageLatency().toMillis(), this.statistics.maxLatency().toMillis());
+		}
+
+	}
+
+}
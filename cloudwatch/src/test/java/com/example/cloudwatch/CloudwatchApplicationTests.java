@@ -1,5 +1,7 @@
 package com.example.cloudwatch;
 
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
 import io.restassured.RestAssured;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
@@ -8,11 +10,8 @@ import org.springframework.boot.micrometer.metrics.test.autoconfigure.AutoConfig
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.boot.test.web.server.LocalServerPort;
-import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
-import org.testcontainers.localstack.LocalStackContainer;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
-import org.testcontainers.utility.DockerImageName;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import software.amazon.awssdk.services.cloudwatch.CloudWatchAsyncClient;
 import software.amazon.awssdk.services.cloudwatch.model.*;
 
@@ -28,15 +27,11 @@ import static org.hamcrest.Matchers.equalTo;
 				"management.cloudwatch.metrics.export.step=5s", "management.metrics.enable.all=false",
 				"management.metrics.enable.http=true" })
 @AutoConfigureMetrics
-@Testcontainers
 @EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources("cloudwatch")
 class CloudwatchApplicationTests {
 
-	@Container
-	@ServiceConnection
-	private static LocalStackContainer localstack = new LocalStackContainer(
-			DockerImageName.parse("localstack/localstack:2026.06.0"))
-		.withEnv("LOCALSTACK_AUTH_TOKEN", System.getenv("LOCALSTACK_AUTH_TOKEN"));
+	private static LocalStackNamespace localstack = LocalStackNamespace.forClass(CloudwatchApplicationTests.class);
 
 	@Autowired
 	private CloudWatchAsyncClient cloudWatchAsyncClient;
@@ -44,6 +39,11 @@ class CloudwatchApplicationTests {
 	@LocalServerPort
 	private int localPort;
 
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		localstack.registerProperties(registry);
+	}
+
 	@Test
 	void contextLoads() {
 		Instant startTime = Instant.now();
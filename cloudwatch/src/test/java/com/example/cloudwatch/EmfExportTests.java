@@ -0,0 +1,125 @@
+package com.example.cloudwatch;
+
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import software.amazon.awssdk.services.cloudwatch.CloudWatchAsyncClient;
+import software.amazon.awssdk.services.cloudwatch.model.Dimension;
+import software.amazon.awssdk.services.cloudwatch.model.GetMetricDataResponse;
+import software.amazon.awssdk.services.cloudwatch.model.MetricDataQuery;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources({ "cloudwatch", "logs" })
+class EmfExportTests {
+
+	private static final Log logger = LogFactory.getLog(EmfExportTests.class);
+
+	private static final int NAMES = Integer.getInteger("cloudwatch.emf.names", 500);
+
+	private static LocalStackNamespace localstack = LocalStackNamespace.forClass(EmfExportTests.class);
+
+	@Test
+	void emfPublishesTheSameRequestCountWithFewerCalls() throws Exception {
+		long putMetricDataCalls = run(false);
+		long putLogEventsCalls = run(true);
+
+		logger.info("%d request series: %d PutMetricData calls, %d PutLogEvents calls".formatted(NAMES + 1,
+				putMetricDataCalls, putLogEventsCalls));
+		assertThat(putLogEventsCalls).isPositive().isLessThan(putMetricDataCalls);
+	}
+
+	private long run(boolean emf) throws Exception {
+		String namespace = localstack.name(emf ? "emf" : "put-metric-data");
+		Map<String, Object> properties = new HashMap<>();
+		localstack.registerProperties((name, value) -> properties.put(name, value.get()));
+		properties.put("server.port", 0);
+		properties.put("management.cloudwatch.metrics.export.namespace", namespace);
+		properties.put("management.cloudwatch.metrics.export.step", "5s");
+		properties.put("management.metrics.enable.all", false);
+		properties.put("management.metrics.enable.http", true);
+		if (emf) {
+			properties.put("spring.cloud.aws.cloudwatch.enabled", false);
+			properties.put("sample.cloudwatch.emf.enabled", true);
+			properties.put("sample.cloudwatch.emf.namespace", namespace);
+			properties.put("sample.cloudwatch.emf.log-group", "/" + namespace);
+			properties.put("sample.cloudwatch.emf.step", "5s");
+		}
+
+		Instant startTime = Instant.now();
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CloudwatchApplication.class,
+				RawUriObservationConfiguration.class)
+			.properties(properties)
+			.run()) {
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			try (HttpClient client = HttpClient.newHttpClient()) {
+				for (int i = 0; i < 5; i++) {
+					get(client, port, "/greetings");
+				}
+				for (int i = 0; i < NAMES; i++) {
+					get(client, port, "/greetings/name-" + i);
+				}
+			}
+			CloudWatchAsyncClient cloudWatchAsyncClient = context.getBean(CloudWatchAsyncClient.class);
+			await().atMost(Duration.ofSeconds(30))
+				.pollInterval(Duration.ofSeconds(5))
+				.ignoreExceptions()
+				.untilAsserted(
+						() -> assertThat(requestCounts(cloudWatchAsyncClient, namespace, startTime)).contains(5d));
+			if (emf) {
+				return context.getBean(EmfMeterRegistry.class).getPutLogEventsCount();
+			}
+			return context.getBean(PutMetricDataInterceptor.class).statistics().requests();
+		}
+	}
+
+	private List<Double> requestCounts(CloudWatchAsyncClient cloudWatchAsyncClient, String namespace, Instant startTime)
+			throws Exception {
+		MetricDataQuery query = MetricDataQuery.builder()
+			.id("requests")
+			.metricStat((stat) -> stat.stat("Sum")
+				.period(300)
+				.metric((metric) -> metric.namespace(namespace)
+					.metricName("http.server.requests.count")
+					.dimensions(dimension("error", "none"), dimension("exception", "none"), dimension("method", "GET"),
+							dimension("outcome", "SUCCESS"), dimension("uri", "/greetings"),
+							dimension("status", "200"))))
+			.build();
+		GetMetricDataResponse response = cloudWatchAsyncClient
+			.getMetricData((request) -> request.startTime(startTime.minusSeconds(60))
+				.endTime(Instant.now().plusSeconds(60))
+				.metricDataQueries(query))
+			.get();
+		return response.metricDataResults().get(0).values();
+	}
+
+	private static Dimension dimension(String name, String value) {
+		return Dimension.builder().name(name).value(value).build();
+	}
+
+	private static void get(HttpClient client, int port, String path) throws Exception {
+		HttpResponse<String> response = client.send(
+				HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build(),
+				HttpResponse.BodyHandlers.ofString());
+		assertThat(response.statusCode()).isEqualTo(200);
+	}
+
+}
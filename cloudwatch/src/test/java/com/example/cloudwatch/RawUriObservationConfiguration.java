@@ -0,0 +1,28 @@
+package com.example.cloudwatch;
+
+import io.micrometer.common.KeyValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+/**
+ * Tags requests with the actual path instead of the {@code /greetings/{name}} pattern, so
+ * that every name becomes its own set of CloudWatch metrics.
+ */
+@Configuration(proxyBeanMethods = false)
+class RawUriObservationConfiguration {
+
+	@Bean
+	DefaultServerRequestObservationConvention rawUriObservationConvention() {
+		return new DefaultServerRequestObservationConvention() {
+
+			@Override
+			protected KeyValue uri(ServerRequestObservationContext context) {
+				return KeyValue.of("uri", context.getCarrier().getRequestURI());
+			}
+
+		};
+	}
+
+}
@@ -0,0 +1,97 @@
+package com.example.cognito;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link JwtDecoder} that remembers the tokens its delegate successfully decoded, keyed
+ * by their SHA-256 hash, and returns them again without parsing or verifying the
+ * signature until they expire. Tokens without an expiry are never cached. The least
+ * recently used entries are evicted beyond the maximum size, and hits and misses are
+ * published as the {@code cache.gets} meters of the {@code jwt} cache.
+ * <p>
+ * The CPU time of each verification is recorded as {@code jwt.cache.verification}, and
+ * each cache hit adds the mean verification time at that point to
+ * {@code jwt.cache.cpu.saved}, an estimate of the time the hits did not spend verifying.
+ */
+public final class CachingJwtDecoder implements JwtDecoder {
+
+	private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+	private final JwtDecoder delegate;
+
+	private final Cache<String, Jwt> cache;
+
+	private final Timer verification;
+
+	private final LongAdder savedNanos = new LongAdder();
+
+	public CachingJwtDecoder(JwtDecoder delegate, int maximumSize, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfter(Expiry.creating((String key, Jwt jwt) -> Duration.between(Instant.now(), jwt.getExpiresAt())))
+			.recordStats()
+			.build();
+		this.verification = meterRegistry.timer("jwt.cache.verification");
+		CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "jwt");
+		FunctionCounter.builder("jwt.cache.cpu.saved", this.savedNanos, (saved) -> saved.sum() / 1e9)
+			.baseUnit("seconds")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public Jwt decode(String token) throws JwtException {
+		String key = hash(token);
+		Jwt cached = this.cache.getIfPresent(key);
+		if (cached != null && cached.getTokenValue().equals(token)) {
+			this.savedNanos.add((long) this.verification.mean(TimeUnit.NANOSECONDS));
+			return cached;
+		}
+		Jwt jwt = verify(token);
+		if (jwt.getExpiresAt() != null) {
+			this.cache.put(key, jwt);
+		}
+		return jwt;
+	}
+
+	private Jwt verify(String token) {
+		long start = threads.getCurrentThreadCpuTime();
+		try {
+			return this.delegate.decode(token);
+		}
+		finally {
+			this.verification.record(threads.getCurrentThreadCpuTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private static String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+			return Base64.getEncoder().encodeToString(digest);
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.example.cognito;
+
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jose.util.Resource;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link DefaultResourceRetriever} that counts the JWK set fetches.
+ */
+public class CountingResourceRetriever extends DefaultResourceRetriever {
+
+	private final LongAdder fetches = new LongAdder();
+
+	public CountingResourceRetriever(int connectTimeout, int readTimeout) {
+		super(connectTimeout, readTimeout);
+	}
+
+	@Override
+	public Resource retrieveResource(URL url) throws IOException {
+		this.fetches.increment();
+		return super.retrieveResource(url);
+	}
+
+	public long getFetchCount() {
+		return this.fetches.sum();
+	}
+
+}
@@ -0,0 +1,21 @@
+package com.example.cognito;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Caching of the user pool's JWK set by the {@link JwtDecoderConfiguration JwtDecoder}.
+ * The set is kept for {@code cacheTtl} and refreshed in the background
+ * {@code refreshAhead} before it expires. A token with an unknown {@code kid} triggers an
+ * immediate refresh to pick up rotated keys, but no more than once per
+ * {@code minRefreshInterval}.
+ */
+@ConfigurationProperties("sample.security.jwks")
+public record JwkSetProperties(@DefaultValue("5m") Duration cacheTtl, @DefaultValue("15s") Duration refreshTimeout,
+		@DefaultValue("30s") Duration refreshAhead, @DefaultValue("30s") Duration minRefreshInterval,
+		@DefaultValue("true") boolean warmUp, @DefaultValue("2s") Duration connectTimeout,
+		@DefaultValue("2s") Duration readTimeout) {
+
+}
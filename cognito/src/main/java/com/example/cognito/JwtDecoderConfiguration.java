@@ -0,0 +1,86 @@
+package com.example.cognito;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+
+/**
+ * {@link JwtDecoder} backed by a cached, refresh-ahead and rate limited JWK set, so that
+ * requests neither wait for the first JWK set fetch nor pile up on a cold or rotated
+ * cache. Concurrent lookups during a refresh wait for that single fetch. Validated tokens
+ * are optionally cached as well, see {@link CachingJwtDecoder}.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties({ JwkSetProperties.class, TokenCacheProperties.class })
+class JwtDecoderConfiguration {
+
+	private static final Log logger = LogFactory.getLog(JwtDecoderConfiguration.class);
+
+	@Bean
+	CountingResourceRetriever jwkSetRetriever(JwkSetProperties properties) {
+		return new CountingResourceRetriever((int) properties.connectTimeout().toMillis(),
+				(int) properties.readTimeout().toMillis());
+	}
+
+	@Bean
+	JWKSource<SecurityContext> jwkSource(
+			@Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") URI jwkSetUri,
+			JwkSetProperties properties, CountingResourceRetriever jwkSetRetriever) throws MalformedURLException {
+		JWKSource<SecurityContext> jwkSource = JWKSourceBuilder
+			.<SecurityContext>create(jwkSetUri.toURL(), jwkSetRetriever)
+			.cache(properties.cacheTtl().toMillis(), properties.refreshTimeout().toMillis())
+			.refreshAheadCache(properties.refreshAhead().toMillis(), true)
+			.rateLimited(properties.minRefreshInterval().toMillis())
+			.retrying(true)
+			.build();
+		if (properties.warmUp()) {
+			try {
+				jwkSource.get(new JWKSelector(new JWKMatcher.Builder().build()), null);
+			}
+			catch (KeySourceException ex) {
+				logger.warn("Failed to pre-fetch the JWK set from " + jwkSetUri, ex);
+			}
+		}
+		return jwkSource;
+	}
+
+	@Bean
+	JwtDecoder jwtDecoder(JWKSource<SecurityContext> jwkSource, TokenCacheProperties tokenCacheProperties,
+			MeterRegistry meterRegistry) {
+		JwtDecoder jwtDecoder = nimbusJwtDecoder(jwkSource);
+		if (tokenCacheProperties.enabled()) {
+			return new CachingJwtDecoder(jwtDecoder, tokenCacheProperties.maximumSize(), meterRegistry);
+		}
+		return jwtDecoder;
+	}
+
+	static NimbusJwtDecoder nimbusJwtDecoder(JWKSource<SecurityContext> jwkSource) {
+		DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+		jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+		// Type and claims are validated by NimbusJwtDecoder's OAuth2TokenValidator
+		jwtProcessor.setJWSTypeVerifier((type, context) -> {
+		});
+		jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+		});
+		return new NimbusJwtDecoder(jwtProcessor);
+	}
+
+}
@@ -0,0 +1,12 @@
+package com.example.cognito;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Optional cache of already validated bearer tokens, see {@link CachingJwtDecoder}.
+ */
+@ConfigurationProperties("sample.security.token-cache")
+public record TokenCacheProperties(@DefaultValue("false") boolean enabled, @DefaultValue("10000") int maximumSize) {
+
+}
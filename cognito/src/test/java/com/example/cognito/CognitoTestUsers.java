@@ -0,0 +1,214 @@
+package com.example.cognito;
+
+import com.example.localstack.LocalStackNamespace;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderAsyncClient;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.AttributeType;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.AuthFlowType;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.AuthenticationResultType;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.ExplicitAuthFlowsType;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Test harness that provisions authenticated users in a fresh LocalStack user pool. Users
+ * are created concurrently with the async Cognito client, their tokens are kept, and
+ * {@link #accessToken(String)} refreshes a token with its refresh token once it is within
+ * the refresh-ahead window of its expiry.
+ */
+class CognitoTestUsers implements AutoCloseable {
+
+	static final String PASSWORD = "testP4ssw*rd";
+
+	private final CognitoIdentityProviderAsyncClient cognitoClient;
+
+	private final String userPoolId;
+
+	private final String clientId;
+
+	private final Semaphore inFlight;
+
+	private final Duration refreshAhead;
+
+	private final Map<String, Tokens> tokens = new ConcurrentHashMap<>();
+
+	private final AtomicInteger nextUser = new AtomicInteger();
+
+	private final LongAdder refreshes = new LongAdder();
+
+	private CognitoTestUsers(CognitoIdentityProviderAsyncClient cognitoClient, String userPoolId, String clientId,
+			int concurrency, Duration refreshAhead) {
+		this.cognitoClient = cognitoClient;
+		this.userPoolId = userPoolId;
+		this.clientId = clientId;
+		this.inFlight = new Semaphore(concurrency);
+		this.refreshAhead = refreshAhead;
+	}
+
+	static CognitoTestUsers create(LocalStackNamespace localstack, String poolName, int concurrency) {
+		return create(localstack, poolName, concurrency, Duration.ofMinutes(5));
+	}
+
+	static CognitoTestUsers create(LocalStackNamespace localstack, String poolName, int concurrency,
+			Duration refreshAhead) {
+		CognitoIdentityProviderAsyncClient cognitoClient = CognitoIdentityProviderAsyncClient.builder()
+			.credentialsProvider(StaticCredentialsProvider
+				.create(AwsBasicCredentials.create(localstack.getAccessKey(), localstack.getSecretKey())))
+			.region(Region.of(localstack.getRegion()))
+			.endpointOverride(localstack.getEndpoint())
+			.build();
+		String userPoolId = cognitoClient.createUserPool((request) -> request.poolName(localstack.name(poolName)))
+			.join()
+			.userPool()
+			.id();
+		String clientId = cognitoClient
+			.createUserPoolClient((request) -> request.clientName(poolName)
+				.userPoolId(userPoolId)
+				.explicitAuthFlows(ExplicitAuthFlowsType.ALLOW_USER_PASSWORD_AUTH,
+						ExplicitAuthFlowsType.ALLOW_REFRESH_TOKEN_AUTH))
+			.join()
+			.userPoolClient()
+			.clientId();
+		return new CognitoTestUsers(cognitoClient, userPoolId, clientId, concurrency, refreshAhead);
+	}
+
+	String getUserPoolId() {
+		return this.userPoolId;
+	}
+
+	List<String> getUsernames() {
+		return List.copyOf(this.tokens.keySet());
+	}
+
+	long getRefreshCount() {
+		return this.refreshes.sum();
+	}
+
+	/**
+	 * Creates and signs in {@code count} users named {@code user<n>@test.com}, numbered
+	 * after the users attempted before, so that a failed user's name is not reused.
+	 */
+	Report provision(int count) throws InterruptedException {
+		int offset = this.nextUser.getAndAdd(count);
+		long start = System.nanoTime();
+		List<CompletableFuture<Void>> users = new ArrayList<>(count);
+		LongAdder failures = new LongAdder();
+		for (int i = 0; i < count; i++) {
+			String username = "user%06d@test.com".formatted(offset + i);
+			this.inFlight.acquire();
+			users.add(provision(username).whenComplete((tokens, ex) -> {
+				if (ex != null) {
+					failures.increment();
+				}
+				else {
+					this.tokens.put(username, tokens);
+				}
+				this.inFlight.release();
+			}).handle((tokens, ex) -> null));
+		}
+		CompletableFuture.allOf(users.toArray(CompletableFuture[]::new)).join();
+		return new Report(count - failures.intValue(), failures.intValue(),
+				Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	private CompletableFuture<Tokens> provision(String username) {
+		return this.cognitoClient
+			.adminCreateUser((request) -> request.userPoolId(this.userPoolId)
+				.username(username)
+				.messageAction("SUPPRESS")
+				.userAttributes(AttributeType.builder().name("email").value(username).build(),
+						AttributeType.builder().name("email_verified").value("true").build()))
+			.thenCompose((created) -> this.cognitoClient
+				.adminSetUserPassword((request) -> request.userPoolId(this.userPoolId)
+					.username(username)
+					.password(PASSWORD)
+					.permanent(true)))
+			.thenCompose((password) -> this.cognitoClient
+				.initiateAuth((request) -> request.authFlow(AuthFlowType.USER_PASSWORD_AUTH)
+					.clientId(this.clientId)
+					.authParameters(Map.of("USERNAME", username, "PASSWORD", PASSWORD))))
+			.thenApply((response) -> Tokens.of(response.authenticationResult(), null));
+	}
+
+	/**
+	 * Returns the access token of the user, refreshed first if it expires within the
+	 * refresh-ahead window.
+	 */
+	String accessToken(String username) {
+		Tokens tokens = tokens(username);
+		if (tokens.expiresAt().minus(this.refreshAhead).isAfter(Instant.now())) {
+			return tokens.accessToken();
+		}
+		return refresh(username, tokens);
+	}
+
+	/**
+	 * Replaces the tokens of the user using its refresh token, regardless of their
+	 * expiry.
+	 */
+	String refresh(String username) {
+		return refresh(username, tokens(username));
+	}
+
+	private Tokens tokens(String username) {
+		Tokens tokens = this.tokens.get(username);
+		if (tokens == null) {
+			throw new IllegalArgumentException("Unknown user " + username);
+		}
+		return tokens;
+	}
+
+	// Refreshes outside the map and only replaces the tokens it refreshed, so that a
+	// concurrent refresh of the same user is kept rather than overwritten
+	private String refresh(String username, Tokens tokens) {
+		Tokens refreshed = refresh(tokens);
+		this.tokens.replace(username, tokens, refreshed);
+		return refreshed.accessToken();
+	}
+
+	private Tokens refresh(Tokens tokens) {
+		this.refreshes.increment();
+		AuthenticationResultType result = this.cognitoClient
+			.initiateAuth((request) -> request.authFlow(AuthFlowType.REFRESH_TOKEN_AUTH)
+				.clientId(this.clientId)
+				.authParameters(Map.of("REFRESH_TOKEN", tokens.refreshToken())))
+			.join()
+			.authenticationResult();
+		// Cognito does not return a new refresh token on refresh
+		return Tokens.of(result, tokens.refreshToken());
+	}
+
+	@Override
+	public void close() {
+		this.cognitoClient.close();
+	}
+
+	record Tokens(String accessToken, String refreshToken, Instant expiresAt) {
+
+		static Tokens of(AuthenticationResultType result, String previousRefreshToken) {
+			String refreshToken = (result.refreshToken() != null) ? result.refreshToken() : previousRefreshToken;
+			return new Tokens(result.accessToken(), refreshToken, Instant.now().plusSeconds(result.expiresIn()));
+		}
+
+	}
+
+	record Report(int users, int failures, Duration duration) {
+
+		double usersPerSecond() {
+			return this.users * 1_000_000_000.0 / this.duration.toNanos();
+		}
+
+	}
+
+}
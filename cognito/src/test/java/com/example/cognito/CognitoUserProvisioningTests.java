@@ -0,0 +1,86 @@
+package com.example.cognito;
+
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources(value = "cognito-idp", exclusive = true)
+class CognitoUserProvisioningTests {
+
+	private static final Log logger = LogFactory.getLog(CognitoUserProvisioningTests.class);
+
+	private static final int USERS = Integer.getInteger("cognito.provisioning.users", 2_000);
+
+	private static final int CONCURRENCY = Integer.getInteger("cognito.provisioning.concurrency", 64);
+
+	private static final LocalStackNamespace localstack = LocalStackNamespace
+		.forClass(CognitoUserProvisioningTests.class);
+
+	private static CognitoTestUsers users;
+
+	@LocalServerPort
+	private int port;
+
+	@BeforeAll
+	static void beforeAll() {
+		users = CognitoTestUsers.create(localstack, "provisioning", CONCURRENCY);
+	}
+
+	@AfterAll
+	static void afterAll() {
+		users.close();
+	}
+
+	@DynamicPropertySource
+	static void dynamicProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.security.oauth2.resourceserver.jwt.jwk-set-uri",
+				() -> localstack.getEndpoint() + "/" + users.getUserPoolId() + "/.well-known/jwks.json");
+	}
+
+	@Test
+	void provisionsAuthenticatedUsersConcurrently() throws Exception {
+		CognitoTestUsers.Report report = users.provision(USERS);
+
+		logger.info("Provisioned %d users (%d failed) in %d ms with concurrency %d: %.1f users/s".formatted(
+				report.users(), report.failures(), report.duration().toMillis(), CONCURRENCY, report.usersPerSecond()));
+		assertThat(report.failures()).isZero();
+		assertThat(users.getUsernames()).hasSize(USERS);
+
+		RestClient restClient = RestClient.create("http://localhost:" + this.port);
+		List<String> sample = users.getUsernames().stream().limit(20).toList();
+		for (String username : sample) {
+			assertThat(topSecret(restClient, users.accessToken(username))).startsWith("You are [");
+		}
+		assertThat(users.getRefreshCount()).isZero();
+
+		String refreshed = users.refresh(sample.get(0));
+		assertThat(users.getRefreshCount()).isEqualTo(1);
+		assertThat(users.accessToken(sample.get(0))).isEqualTo(refreshed);
+		assertThat(topSecret(restClient, refreshed)).startsWith("You are [");
+	}
+
+	private static String topSecret(RestClient restClient, String accessToken) {
+		return restClient.get()
+			.uri("/topsecret")
+			.headers((headers) -> headers.setBearerAuth(accessToken))
+			.retrieve()
+			.body(String.class);
+	}
+
+}
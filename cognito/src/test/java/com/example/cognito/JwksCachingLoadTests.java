@@ -0,0 +1,143 @@
+package com.example.cognito;
+
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources(value = "cognito-idp", exclusive = true)
+class JwksCachingLoadTests {
+
+	private static final Log logger = LogFactory.getLog(JwksCachingLoadTests.class);
+
+	private static final int CLIENTS = 32;
+
+	private static final int REQUESTS = Integer.getInteger("cognito.jwks.requests", 20_000);
+
+	private static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(5);
+
+	private static final LocalStackNamespace localstack = LocalStackNamespace.forClass(JwksCachingLoadTests.class);
+
+	private static String userPoolId;
+
+	private static String accessToken;
+
+	@Autowired
+	private CountingResourceRetriever jwkSetRetriever;
+
+	@LocalServerPort
+	private int port;
+
+	@BeforeAll
+	static void beforeAll() throws InterruptedException {
+		try (CognitoTestUsers users = CognitoTestUsers.create(localstack, "jwks", 1)) {
+			users.provision(1);
+			userPoolId = users.getUserPoolId();
+			accessToken = users.accessToken(users.getUsernames().get(0));
+		}
+	}
+
+	@DynamicPropertySource
+	static void dynamicProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.security.oauth2.resourceserver.jwt.jwk-set-uri",
+				() -> localstack.getEndpoint() + "/" + userPoolId + "/.well-known/jwks.json");
+		registry.add("sample.security.jwks.min-refresh-interval", MIN_REFRESH_INTERVAL::toString);
+	}
+
+	@Test
+	void warmedCacheServesLoadWithoutFurtherFetches() throws Exception {
+		long before = this.jwkSetRetriever.getFetchCount();
+		assertThat(before).as("fetched during startup").isPositive();
+
+		long start = System.nanoTime();
+		List<Integer> statuses = hammer(accessToken, REQUESTS);
+		double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+		logger.info("%d authenticated requests from %d clients: %.0f req/s, %d JWK set fetches".formatted(REQUESTS,
+				CLIENTS, REQUESTS / seconds, this.jwkSetRetriever.getFetchCount() - before));
+		assertThat(statuses).containsOnly(200);
+		assertThat(this.jwkSetRetriever.getFetchCount()).isEqualTo(before);
+	}
+
+	@Test
+	void unknownKeyIdRefreshesOnceUnderConcurrency() throws Exception {
+		RSAKey unknownKey = new RSAKeyGenerator(2048).keyID("rotated-" + System.nanoTime()).generate();
+		SignedJWT token = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(unknownKey.getKeyID()).build(),
+				new JWTClaimsSet.Builder().subject("intruder")
+					.expirationTime(Date.from(Instant.now().plusSeconds(300)))
+					.build());
+		token.sign(new RSASSASigner(unknownKey));
+		// Each interval allows two fetches, the first of which opens it. Let the interval
+		// of the startup fetch pass and open a new one, so that one fetch is left.
+		Thread.sleep(MIN_REFRESH_INTERVAL);
+		long before = this.jwkSetRetriever.getFetchCount();
+		assertThat(hammer(token.serialize(), 1)).containsOnly(401);
+		assertThat(this.jwkSetRetriever.getFetchCount() - before).isEqualTo(1);
+		before = this.jwkSetRetriever.getFetchCount();
+
+		List<Integer> statuses = hammer(token.serialize(), 1_000);
+
+		long fetches = this.jwkSetRetriever.getFetchCount() - before;
+		logger.info("1000 requests with an unknown kid caused %d JWK set fetches".formatted(fetches));
+		assertThat(statuses).containsOnly(401);
+		assertThat(fetches).isEqualTo(1);
+	}
+
+	private List<Integer> hammer(String bearerToken, int requests) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + this.port + "/topsecret"))
+			.header("Authorization", "Bearer " + bearerToken)
+			.build();
+		List<Integer> statuses = new ArrayList<>();
+		try (HttpClient client = HttpClient.newHttpClient();
+				ExecutorService executor = Executors.newFixedThreadPool(CLIENTS)) {
+			List<Future<List<Integer>>> results = new ArrayList<>();
+			for (int c = 0; c < CLIENTS; c++) {
+				int count = requests / CLIENTS + ((c < requests % CLIENTS) ? 1 : 0);
+				results.add(executor.submit(() -> {
+					List<Integer> clientStatuses = new ArrayList<>(count);
+					for (int i = 0; i < count; i++) {
+						clientStatuses.add(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+					}
+					return clientStatuses;
+				}));
+			}
+			for (Future<List<Integer>> result : results) {
+				statuses.addAll(result.get());
+			}
+		}
+		return statuses;
+	}
+
+}
@@ -0,0 +1,133 @@
+package com.example.cognito;
+
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = "sample.security.token-cache.enabled=true")
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources(value = "cognito-idp", exclusive = true)
+class TokenCacheBenchmarkTests {
+
+	private static final Log logger = LogFactory.getLog(TokenCacheBenchmarkTests.class);
+
+	private static final int USERS = 20;
+
+	private static final int THREADS = 16;
+
+	private static final int DECODES = Integer.getInteger("cognito.token-cache.decodes", 200_000);
+
+	private static final LocalStackNamespace localstack = LocalStackNamespace.forClass(TokenCacheBenchmarkTests.class);
+
+	private static String userPoolId;
+
+	private static final List<String> accessTokens = new ArrayList<>();
+
+	@Autowired
+	private JwtDecoder jwtDecoder;
+
+	@Autowired
+	private JWKSource<SecurityContext> jwkSource;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@BeforeAll
+	static void beforeAll() throws InterruptedException {
+		try (CognitoTestUsers users = CognitoTestUsers.create(localstack, "token-cache", USERS)) {
+			users.provision(USERS);
+			userPoolId = users.getUserPoolId();
+			users.getUsernames().forEach((username) -> accessTokens.add(users.accessToken(username)));
+		}
+	}
+
+	@DynamicPropertySource
+	static void dynamicProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.security.oauth2.resourceserver.jwt.jwk-set-uri",
+				() -> localstack.getEndpoint() + "/" + userPoolId + "/.well-known/jwks.json");
+	}
+
+	@Test
+	void cachedDecodingSavesSignatureVerification() throws Exception {
+		assertThat(this.jwtDecoder).isInstanceOf(CachingJwtDecoder.class);
+		JwtDecoder uncached = JwtDecoderConfiguration.nimbusJwtDecoder(this.jwkSource);
+
+		Result withoutCache = run(uncached);
+		Result withCache = run(this.jwtDecoder);
+
+		double hits = gets("hit");
+		double misses = gets("miss");
+		double saved = this.meterRegistry.get("jwt.cache.cpu.saved").functionCounter().count();
+		logger.info("Uncached: %s, cached: %s, hit rate %.4f, verification CPU saved %.2f s".formatted(withoutCache,
+				withCache, hits / (hits + misses), saved));
+
+		// Threads racing on the first use of a token may each verify it once
+		assertThat(hits + misses).isEqualTo(DECODES);
+		assertThat(misses).isBetween((double) USERS, (double) USERS * THREADS);
+		assertThat(withCache.cpuMicrosPerDecode()).isLessThan(withoutCache.cpuMicrosPerDecode());
+	}
+
+	private double gets(String result) {
+		return this.meterRegistry.get("cache.gets").tag("cache", "jwt").tag("result", result).functionCounter().count();
+	}
+
+	private Result run(JwtDecoder decoder) throws Exception {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		long start = System.nanoTime();
+		long cpu = 0;
+		try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+			List<Future<Long>> workers = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				int count = DECODES / THREADS + ((t < DECODES % THREADS) ? 1 : 0);
+				workers.add(executor.submit(() -> {
+					long threadStart = threads.getCurrentThreadCpuTime();
+					for (int i = 0; i < count; i++) {
+						String token = accessTokens.get(ThreadLocalRandom.current().nextInt(USERS));
+						assertThat(decoder.decode(token).getSubject()).isNotNull();
+					}
+					return threads.getCurrentThreadCpuTime() - threadStart;
+				}));
+			}
+			for (Future<Long> worker : workers) {
+				cpu += worker.get();
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+		return new Result(DECODES * 1_000_000_000.0 / elapsed, (double) TimeUnit.NANOSECONDS.toMicros(cpu) / DECODES);
+	}
+
+	record Result(double throughput, double cpuMicrosPerDecode) {
+
+		@Override
+		public String toString() {
+			return "%.0f decodes/s, %.2f us CPU per decode".formatted(this.throughput, this.cpuMicrosPerDecode);
+		}
+
+	}
+
+}
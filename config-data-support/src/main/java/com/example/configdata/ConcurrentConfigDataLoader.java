@@ -0,0 +1,84 @@
+package com.example.configdata;
+
+import org.apache.commons.logging.Log;
+import org.springframework.boot.bootstrap.BootstrapContext;
+import org.springframework.boot.context.config.ConfigData;
+import org.springframework.boot.context.config.ConfigDataLoader;
+import org.springframework.boot.context.config.ConfigDataLoaderContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads a {@link ConcurrentConfigDataResource} of the given prefix by running the loads
+ * returned by {@link #loads} on up to
+ * {@link ConcurrentConfigDataResource#getConcurrency()} threads. The properties of later
+ * loads take precedence over earlier ones.
+ */
+public abstract class ConcurrentConfigDataLoader implements ConfigDataLoader<ConcurrentConfigDataResource> {
+
+	private final String prefix;
+
+	private final Log log;
+
+	protected ConcurrentConfigDataLoader(String prefix, Log log) {
+		this.prefix = prefix;
+		this.log = log;
+	}
+
+	@Override
+	public boolean isLoadable(ConfigDataLoaderContext context, ConcurrentConfigDataResource resource) {
+		return this.prefix.equals(resource.getPrefix());
+	}
+
+	@Override
+	public ConfigData load(ConfigDataLoaderContext context, ConcurrentConfigDataResource resource) {
+		long start = System.nanoTime();
+		AtomicInteger calls = new AtomicInteger();
+		try (ExecutorService executor = Executors.newFixedThreadPool(resource.getConcurrency())) {
+			List<Future<Map<String, Object>>> loads = loads(context.getBootstrapContext(), resource, calls).stream()
+				.map(executor::submit)
+				.toList();
+			Map<String, Object> properties = new LinkedHashMap<>();
+			for (Future<Map<String, Object>> load : loads) {
+				properties.putAll(getResult(load, resource));
+			}
+			this.log.info("Loaded %d properties with %d calls in %d ms".formatted(properties.size(), calls.get(),
+					(System.nanoTime() - start) / 1_000_000));
+			return new ConfigData(List.of(new MapPropertySource(resource.toString(), properties)));
+		}
+	}
+
+	/**
+	 * Return the loads of the given resource. Each load returns its properties and counts
+	 * the service calls it makes.
+	 */
+	protected abstract List<Callable<Map<String, Object>>> loads(BootstrapContext context,
+			ConcurrentConfigDataResource resource, AtomicInteger calls);
+
+	private static Map<String, Object> getResult(Future<Map<String, Object>> load,
+			ConcurrentConfigDataResource resource) {
+		try {
+			return load.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while loading " + resource, ex);
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(ex.getCause());
+		}
+	}
+
+}
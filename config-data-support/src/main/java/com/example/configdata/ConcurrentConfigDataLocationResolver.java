@@ -0,0 +1,61 @@
+package com.example.configdata;
+
+import io.awspring.cloud.autoconfigure.config.AbstractAwsConfigDataLocationResolver;
+import io.awspring.cloud.autoconfigure.core.AwsProperties;
+import io.awspring.cloud.autoconfigure.core.CredentialsProperties;
+import io.awspring.cloud.autoconfigure.core.RegionProperties;
+import org.springframework.boot.context.config.ConfigDataLocation;
+import org.springframework.boot.context.config.ConfigDataLocationResolverContext;
+import org.springframework.boot.context.config.Profiles;
+import org.springframework.boot.context.properties.bind.Binder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolves an import of {@code ;} separated entries into a single
+ * {@link ConcurrentConfigDataResource}, after registering the shared AWS settings and the
+ * service client in the bootstrap context. The number of concurrent calls of the loader
+ * is bound from the given property.
+ */
+public abstract class ConcurrentConfigDataLocationResolver
+		extends AbstractAwsConfigDataLocationResolver<ConcurrentConfigDataResource> {
+
+	private final String concurrencyProperty;
+
+	private final int defaultConcurrency;
+
+	protected ConcurrentConfigDataLocationResolver(String concurrencyProperty, int defaultConcurrency) {
+		this.concurrencyProperty = concurrencyProperty;
+		this.defaultConcurrency = defaultConcurrency;
+	}
+
+	@Override
+	public List<ConcurrentConfigDataResource> resolveProfileSpecific(ConfigDataLocationResolverContext resolverContext,
+			ConfigDataLocation location, Profiles profiles) {
+		Binder binder = resolverContext.getBinder();
+		registerBean(resolverContext, AwsProperties.class, loadAwsProperties(binder));
+		registerBean(resolverContext, CredentialsProperties.class, loadCredentialsProperties(binder));
+		registerBean(resolverContext, RegionProperties.class, loadRegionProperties(binder));
+		registerClient(resolverContext, binder);
+
+		List<String> groups = new ArrayList<>();
+		List<String> names = new ArrayList<>();
+		for (String context : getCustomContexts(location.getNonPrefixedValue(getPrefix()))) {
+			(isGroup(context) ? groups : names).add(context);
+		}
+		int concurrency = binder.bind(this.concurrencyProperty, Integer.class).orElse(this.defaultConcurrency);
+		return List.of(new ConcurrentConfigDataResource(getPrefix(), groups, names, concurrency));
+	}
+
+	/**
+	 * Register the service properties and the promoted service client.
+	 */
+	protected abstract void registerClient(ConfigDataLocationResolverContext resolverContext, Binder binder);
+
+	/**
+	 * Whether the given entry selects a group of values rather than naming one.
+	 */
+	protected abstract boolean isGroup(String context);
+
+}
@@ -0,0 +1,68 @@
+package com.example.configdata;
+
+import org.springframework.boot.context.config.ConfigDataResource;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A single import resolved by a {@link ConcurrentConfigDataLocationResolver}: the entries
+ * that each select a group of values, such as parameter paths or secret filters, and the
+ * entries that name a single value.
+ */
+public final class ConcurrentConfigDataResource extends ConfigDataResource {
+
+	private final String prefix;
+
+	private final List<String> groups;
+
+	private final List<String> names;
+
+	private final int concurrency;
+
+	public ConcurrentConfigDataResource(String prefix, List<String> groups, List<String> names, int concurrency) {
+		this.prefix = prefix;
+		this.groups = List.copyOf(groups);
+		this.names = List.copyOf(names);
+		this.concurrency = concurrency;
+	}
+
+	public String getPrefix() {
+		return this.prefix;
+	}
+
+	public List<String> getGroups() {
+		return this.groups;
+	}
+
+	public List<String> getNames() {
+		return this.names;
+	}
+
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		ConcurrentConfigDataResource other = (ConcurrentConfigDataResource) obj;
+		return this.prefix.equals(other.prefix) && this.groups.equals(other.groups) && this.names.equals(other.names);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.prefix, this.groups, this.names);
+	}
+
+	@Override
+	public String toString() {
+		return this.prefix + this.groups + this.names;
+	}
+
+}
@@ -0,0 +1,97 @@
+package com.example.springcloudfunctionaws;
+
+import com.example.springcloudfunctionaws.SpringCloudFunctionAwsApplication.Profile;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The {@code fetchByName} function. Besides a single {@link Profile}, answered with its
+ * count, it accepts a JSON array of profiles, answered with the counts in the same order,
+ * and an SQS event from an event source mapping, whose records each hold a profile and
+ * are answered with a partial batch response. Batches are counted with a single statement
+ * by {@link ProfileCounts}.
+ */
+class FetchByName implements Function<String, Object> {
+
+	private static final Log logger = LogFactory.getLog(FetchByName.class);
+
+	private final ProfileCounts profileCounts;
+
+	private final JsonMapper jsonMapper;
+
+	FetchByName(ProfileCounts profileCounts, JsonMapper jsonMapper) {
+		this.profileCounts = profileCounts;
+		this.jsonMapper = jsonMapper;
+	}
+
+	@Override
+	public Object apply(String payload) {
+		JsonNode root = this.jsonMapper.readTree(payload);
+		if (root.isArray()) {
+			List<String> names = new ArrayList<>();
+			root.forEach((profile) -> names.add(name(profile)));
+			Map<String, Integer> counts = this.profileCounts.countAll(names);
+			return names.stream().map(counts::get).toList();
+		}
+		if (root.has("Records")) {
+			return applySqsEvent(root.get("Records"));
+		}
+		return this.profileCounts.count(name(root));
+	}
+
+	/**
+	 * Counts the profiles of the records and answers with the records that could not be
+	 * read. An event source mapping only uses the batch item failures, so the counts are
+	 * not returned and only logged at debug level.
+	 */
+	private SqsBatchResponse applySqsEvent(JsonNode records) {
+		Map<String, String> names = new LinkedHashMap<>();
+		List<ItemFailure> failures = new ArrayList<>();
+		for (JsonNode record : records) {
+			String messageId = record.path("messageId").asString();
+			try {
+				names.put(messageId, name(this.jsonMapper.readTree(record.path("body").asString())));
+			}
+			catch (JacksonException | IllegalArgumentException ex) {
+				logger.warn("Could not read profile from message " + messageId, ex);
+				failures.add(new ItemFailure(messageId));
+			}
+		}
+		Map<String, Integer> counts = this.profileCounts.countAll(names.values());
+		if (logger.isDebugEnabled()) {
+			names.forEach((messageId, name) -> logger
+				.debug("Message %s: %d profile(s) named %s*".formatted(messageId, counts.get(name), name)));
+		}
+		return new SqsBatchResponse(failures);
+	}
+
+	private String name(JsonNode node) {
+		Profile profile = this.jsonMapper.treeToValue(node, Profile.class);
+		if (profile == null || profile.name() == null) {
+			throw new IllegalArgumentException("Profile without a name: " + node);
+		}
+		return profile.name();
+	}
+
+	/**
+	 * The response to an SQS event, listing the messages to retry when the event source
+	 * mapping reports batch item failures.
+	 */
+	record SqsBatchResponse(List<ItemFailure> batchItemFailures) {
+
+	}
+
+	record ItemFailure(String itemIdentifier) {
+
+	}
+
+}
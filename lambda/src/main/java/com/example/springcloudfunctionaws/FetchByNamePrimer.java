@@ -0,0 +1,74 @@
+package com.example.springcloudfunctionaws;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import javax.sql.DataSource;
+import java.util.function.Function;
+
+/**
+ * Runs {@code fetchByName} a few times while the execution environment initializes, so
+ * that the JDBC connection, Flyway-migrated schema, prepared statement and the classes on
+ * that path are loaded and compiled before the first invocation. With SnapStart (or any
+ * CRaC checkpoint) the same priming runs before the checkpoint, after which the pooled
+ * connections are evicted so that the restored snapshot does not hold dead sockets.
+ */
+class FetchByNamePrimer implements SmartInitializingSingleton, Resource {
+
+	private static final Log logger = LogFactory.getLog(FetchByNamePrimer.class);
+
+	private final ObjectProvider<Function<String, Object>> fetchByName;
+
+	private final ObjectProvider<DataSource> dataSource;
+
+	private final PrimingProperties properties;
+
+	FetchByNamePrimer(ObjectProvider<Function<String, Object>> fetchByName, ObjectProvider<DataSource> dataSource,
+			PrimingProperties properties) {
+		this.fetchByName = fetchByName;
+		this.dataSource = dataSource;
+		this.properties = properties;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		if (!this.properties.enabled()) {
+			return;
+		}
+		Core.getGlobalContext().register(this);
+		prime();
+	}
+
+	@Override
+	public void beforeCheckpoint(Context<? extends Resource> context) {
+		prime();
+		if (this.dataSource.getIfAvailable() instanceof HikariDataSource hikariDataSource) {
+			HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+			if (pool != null) {
+				pool.softEvictConnections();
+			}
+		}
+	}
+
+	@Override
+	public void afterRestore(Context<? extends Resource> context) {
+	}
+
+	private void prime() {
+		long start = System.nanoTime();
+		Function<String, Object> fetchByName = this.fetchByName.getObject();
+		for (int i = 0; i < this.properties.iterations(); i++) {
+			fetchByName.apply("{\"name\": \"priming-%d\"}".formatted(i));
+		}
+		logger.info("Primed fetchByName with %d invocations in %d ms".formatted(this.properties.iterations(),
+				(System.nanoTime() - start) / 1_000_000));
+	}
+
+}
@@ -0,0 +1,22 @@
+package com.example.springcloudfunctionaws;
+
+import com.example.springcloudfunctionaws.FetchByName.ItemFailure;
+import com.example.springcloudfunctionaws.FetchByName.SqsBatchResponse;
+import com.example.springcloudfunctionaws.SpringCloudFunctionAwsApplication.Profile;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Native image hints that the reachability metadata of the PostgreSQL driver, HikariCP
+ * and Flyway do not cover: the function's JSON input and SQS response types.
+ */
+class FetchByNameRuntimeHints implements RuntimeHintsRegistrar {
+
+	@Override
+	public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+		new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), Profile.class,
+				SqsBatchResponse.class, ItemFailure.class);
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.example.springcloudfunctionaws;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the {@link LambdaDataSourcePostProcessor} unconditionally, like
+ * {@link PrimingConfiguration}, so that {@code sample.lambda.datasource.enabled} can be
+ * switched per function after AOT processing.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(LambdaDataSourceProperties.class)
+class LambdaDataSourceConfiguration {
+
+	@Bean
+	static LambdaDataSourcePostProcessor lambdaDataSourcePostProcessor(
+			ObjectProvider<LambdaDataSourceProperties> properties) {
+		return new LambdaDataSourcePostProcessor(properties);
+	}
+
+}
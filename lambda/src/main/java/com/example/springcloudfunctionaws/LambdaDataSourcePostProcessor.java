@@ -0,0 +1,49 @@
+package com.example.springcloudfunctionaws;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Sizes the {@link HikariDataSource} for an execution environment: a single connection
+ * that is kept across invocations, validated with {@code Connection.isValid} within
+ * {@code validationTimeout} when it was idle (for instance while the environment was
+ * frozen). The connection is opened during startup, where Flyway migrates the schema with
+ * it, so the first invocation does not pay for it. Runs after the
+ * {@code spring.datasource.hikari} binding, so these settings take precedence.
+ */
+class LambdaDataSourcePostProcessor implements BeanPostProcessor {
+
+	private static final Log logger = LogFactory.getLog(LambdaDataSourcePostProcessor.class);
+
+	private final ObjectProvider<LambdaDataSourceProperties> properties;
+
+	LambdaDataSourcePostProcessor(ObjectProvider<LambdaDataSourceProperties> properties) {
+		this.properties = properties;
+	}
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) {
+		if (bean instanceof HikariDataSource dataSource) {
+			LambdaDataSourceProperties properties = this.properties.getObject();
+			if (properties.enabled()) {
+				configure(beanName, dataSource, properties);
+			}
+		}
+		return bean;
+	}
+
+	private void configure(String beanName, HikariDataSource dataSource, LambdaDataSourceProperties properties) {
+		dataSource.setMaximumPoolSize(properties.maximumPoolSize());
+		dataSource.setMinimumIdle(properties.maximumPoolSize());
+		dataSource.setConnectionTimeout(properties.connectionTimeout().toMillis());
+		dataSource.setValidationTimeout(properties.validationTimeout().toMillis());
+		dataSource.setMaxLifetime(properties.maxLifetime().toMillis());
+		dataSource.setConnectionTestQuery(null);
+		logger.info("Configured data source '%s' for Lambda with a pool of %d connection(s)".formatted(beanName,
+				properties.maximumPoolSize()));
+	}
+
+}
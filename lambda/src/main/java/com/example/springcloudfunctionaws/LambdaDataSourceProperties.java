@@ -0,0 +1,19 @@
+package com.example.springcloudfunctionaws;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * HikariCP settings applied by {@link LambdaDataSourcePostProcessor} when
+ * {@code sample.lambda.datasource.enabled=true}. An execution environment serves one
+ * invocation at a time, so a single connection, opened during startup and validated
+ * quickly when reused after the environment was frozen, is all it needs.
+ */
+@ConfigurationProperties("sample.lambda.datasource")
+public record LambdaDataSourceProperties(@DefaultValue("false") boolean enabled, @DefaultValue("1") int maximumPoolSize,
+		@DefaultValue("2s") Duration connectionTimeout, @DefaultValue("250ms") Duration validationTimeout,
+		@DefaultValue("10m") Duration maxLifetime) {
+
+}
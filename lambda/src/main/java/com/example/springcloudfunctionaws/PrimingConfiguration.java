@@ -0,0 +1,31 @@
+package com.example.springcloudfunctionaws;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import javax.sql.DataSource;
+import java.util.function.Function;
+
+/**
+ * Registers the {@link FetchByNamePrimer} unconditionally and lets it check
+ * {@code sample.lambda.priming.enabled} at runtime, as conditions are fixed at build time
+ * once the application is AOT processed.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(PrimingProperties.class)
+class PrimingConfiguration {
+
+	// Eager even with spring.main.lazy-initialization, while its dependencies are only
+	// resolved when priming is enabled
+	@Bean
+	@Lazy(false)
+	FetchByNamePrimer fetchByNamePrimer(@Qualifier("fetchByName") ObjectProvider<Function<String, Object>> fetchByName,
+			ObjectProvider<DataSource> dataSource, PrimingProperties properties) {
+		return new FetchByNamePrimer(fetchByName, dataSource, properties);
+	}
+
+}
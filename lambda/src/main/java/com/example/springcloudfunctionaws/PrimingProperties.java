@@ -0,0 +1,13 @@
+package com.example.springcloudfunctionaws;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Priming of the {@code fetchByName} path by {@link FetchByNamePrimer}, enabled with
+ * {@code sample.lambda.priming.enabled=true}.
+ */
+@ConfigurationProperties("sample.lambda.priming")
+public record PrimingProperties(@DefaultValue("false") boolean enabled, @DefaultValue("10") int iterations) {
+
+}
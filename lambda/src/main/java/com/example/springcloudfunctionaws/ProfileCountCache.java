@@ -0,0 +1,49 @@
+package com.example.springcloudfunctionaws;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of profile counts by name prefix, kept for the lifetime of the execution
+ * environment. Entries expire after the configured TTL and the least recently used ones
+ * are evicted beyond the maximum size. When disabled, every lookup goes to the loader.
+ */
+class ProfileCountCache {
+
+	private final boolean enabled;
+
+	private final Cache<String, Integer> counts;
+
+	ProfileCountCache(ProfileCountCacheProperties properties) {
+		this.enabled = properties.enabled();
+		this.counts = Caffeine.newBuilder()
+			.maximumSize(properties.maximumSize())
+			.expireAfterWrite(properties.ttl())
+			.build();
+	}
+
+	Integer get(String prefix, Function<String, Integer> loader) {
+		if (!this.enabled) {
+			return loader.apply(prefix);
+		}
+		return this.counts.get(prefix, loader);
+	}
+
+	/**
+	 * Returns the counts of the given prefixes, loading all those that are not cached
+	 * with a single call to the loader.
+	 */
+	Map<String, Integer> getAll(Collection<String> prefixes, Function<Set<String>, Map<String, Integer>> loader) {
+		if (!this.enabled) {
+			return loader.apply(new LinkedHashSet<>(prefixes));
+		}
+		return this.counts.getAll(prefixes, (missing) -> loader.apply(new LinkedHashSet<>(missing)));
+	}
+
+}
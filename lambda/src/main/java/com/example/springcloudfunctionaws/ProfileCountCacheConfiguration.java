@@ -0,0 +1,21 @@
+package com.example.springcloudfunctionaws;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the {@link ProfileCountCache}, which checks
+ * {@code sample.lambda.count-cache.enabled} at runtime so that AOT-processed jars can
+ * switch it per function.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ProfileCountCacheProperties.class)
+class ProfileCountCacheConfiguration {
+
+	@Bean
+	ProfileCountCache profileCountCache(ProfileCountCacheProperties properties) {
+		return new ProfileCountCache(properties);
+	}
+
+}
@@ -0,0 +1,17 @@
+package com.example.springcloudfunctionaws;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Caching of {@code fetchByName} results by {@link ProfileCountCache}, enabled with
+ * {@code sample.lambda.count-cache.enabled=true}. A cached count can be up to {@code ttl}
+ * old.
+ */
+@ConfigurationProperties("sample.lambda.count-cache")
+public record ProfileCountCacheProperties(@DefaultValue("false") boolean enabled, @DefaultValue("1000") int maximumSize,
+		@DefaultValue("30s") Duration ttl) {
+
+}
@@ -0,0 +1,64 @@
+package com.example.springcloudfunctionaws;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Counts profiles by name prefix, through the {@link ProfileCountCache}. Several prefixes
+ * are counted with one statement, a {@code UNION ALL} of the single-prefix query, so that
+ * each branch is planned with its own pattern and can use the {@code text_pattern_ops}
+ * index.
+ */
+class ProfileCounts {
+
+	private static final String COUNT = "SELECT COUNT(*) FROM profile WHERE name LIKE ?";
+
+	// Bounds the size of a statement for very large batches
+	private static final int MAXIMUM_PREFIXES_PER_STATEMENT = 500;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final ProfileCountCache cache;
+
+	ProfileCounts(JdbcTemplate jdbcTemplate, ProfileCountCache cache) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.cache = cache;
+	}
+
+	int count(String prefix) {
+		return this.cache.get(prefix, (key) -> this.jdbcTemplate.queryForObject(COUNT, Integer.class, key + "%"));
+	}
+
+	Map<String, Integer> countAll(Collection<String> prefixes) {
+		return this.cache.getAll(prefixes, this::query);
+	}
+
+	private Map<String, Integer> query(Set<String> prefixes) {
+		Map<String, Integer> counts = new HashMap<>();
+		List<String> remaining = new ArrayList<>(prefixes);
+		for (int from = 0; from < remaining.size(); from += MAXIMUM_PREFIXES_PER_STATEMENT) {
+			List<String> chunk = remaining.subList(from,
+					Math.min(from + MAXIMUM_PREFIXES_PER_STATEMENT, remaining.size()));
+			StringJoiner sql = new StringJoiner(" UNION ALL ");
+			List<Object> arguments = new ArrayList<>();
+			for (String prefix : chunk) {
+				sql.add("SELECT ?, COUNT(*) FROM profile WHERE name LIKE ?");
+				arguments.add(prefix);
+				arguments.add(prefix + "%");
+			}
+			this.jdbcTemplate.query(sql.toString(),
+					(RowCallbackHandler) (resultSet) -> counts.put(resultSet.getString(1), resultSet.getInt(2)),
+					arguments.toArray());
+		}
+		return counts;
+	}
+
+}
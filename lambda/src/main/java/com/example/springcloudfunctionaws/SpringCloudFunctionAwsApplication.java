@@ -3,11 +3,14 @@ package com.example.springcloudfunctionaws;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.json.JsonMapper;
 
 import java.util.function.Function;
 
 @SpringBootApplication
+@ImportRuntimeHints(FetchByNameRuntimeHints.class)
 public class SpringCloudFunctionAwsApplication {
 
 	public static void main(String[] args) {
@@ -15,9 +18,13 @@ public class SpringCloudFunctionAwsApplication {
 	}
 
 	@Bean
-	public Function<Profile, Integer> fetchByName(JdbcTemplate jdbcTemplate) {
-		return profile -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM profile WHERE name LIKE ?", Integer.class,
-				profile.name() + "%");
+	public Function<String, Object> fetchByName(ProfileCounts profileCounts, JsonMapper jsonMapper) {
+		return new FetchByName(profileCounts, jsonMapper);
+	}
+
+	@Bean
+	ProfileCounts profileCounts(JdbcTemplate jdbcTemplate, ProfileCountCache countCache) {
+		return new ProfileCounts(jdbcTemplate, countCache);
 	}
 
 	record Profile(String name) {
@@ -0,0 +1,3 @@
+-- Lets the planner answer fetchByName's "name LIKE 'prefix%'" with an index (only) scan
+-- regardless of the database collation
+CREATE INDEX IF NOT EXISTS profile_name_prefix_idx ON profile (name text_pattern_ops);
@@ -0,0 +1,236 @@
+package com.example.springcloudfunctionaws;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.testcontainers.containers.Network;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.localstack.LocalStackContainer;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.cloudwatch.CloudWatchClient;
+import software.amazon.awssdk.services.cloudwatch.model.Datapoint;
+import software.amazon.awssdk.services.cloudwatch.model.Statistic;
+import software.amazon.awssdk.services.lambda.LambdaClient;
+import software.amazon.awssdk.services.lambda.model.FunctionResponseType;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+class BatchInvocationTests {
+
+	private static final Log logger = LogFactory.getLog(BatchInvocationTests.class);
+
+	private static final int PROFILES = 500;
+
+	private static final int BATCH_SIZE = 10;
+
+	private static final String FUNCTION_NAME = "fetch-by-name-batch";
+
+	// The warm-up invocation plus those of the single and array payloads
+	private static final int SYNCHRONOUS_INVOCATIONS = 1 + PROFILES + PROFILES / BATCH_SIZE;
+
+	static Path jar = LambdaFunctions.buildJar("jvm");
+
+	static Network network = Network.newNetwork();
+
+	@Container
+	static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:15-alpine").withNetwork(network)
+		.withNetworkAliases("postgres");
+
+	@Container
+	static LocalStackContainer localstack = new LocalStackContainer(
+			DockerImageName.parse("localstack/localstack:2026.06.0"))
+		.withNetwork(network)
+		.withEnv("LAMBDA_DOCKER_NETWORK", ((Network.NetworkImpl) network).getName())
+		.withEnv("LOCALSTACK_AUTH_TOKEN", System.getenv("LOCALSTACK_AUTH_TOKEN"));
+
+	@Test
+	void comparesSingleAndBatchedPayloads() throws Exception {
+		List<Result> results = new ArrayList<>();
+		try (var lambdaClient = LambdaClient.builder()
+			.region(Region.of(localstack.getRegion()))
+			.credentialsProvider(StaticCredentialsProvider
+				.create(AwsBasicCredentials.create(localstack.getAccessKey(), localstack.getSecretKey())))
+			.endpointOverride(localstack.getEndpoint())
+			.build();
+				var sqsClient = SqsClient.builder()
+					.region(Region.of(localstack.getRegion()))
+					.credentialsProvider(StaticCredentialsProvider
+						.create(AwsBasicCredentials.create(localstack.getAccessKey(), localstack.getSecretKey())))
+					.endpointOverride(localstack.getEndpoint())
+					.build();
+				var cloudWatchClient = CloudWatchClient.builder()
+					.region(Region.of(localstack.getRegion()))
+					.credentialsProvider(StaticCredentialsProvider
+						.create(AwsBasicCredentials.create(localstack.getAccessKey(), localstack.getSecretKey())))
+					.endpointOverride(localstack.getEndpoint())
+					.build()) {
+			Instant started = Instant.now();
+			Map<String, String> environment = new HashMap<>(LambdaFunctions.DATASOURCE);
+			environment.put("SAMPLE_LAMBDA_DATASOURCE_ENABLED", "true");
+			LambdaFunctions.createFunction(lambdaClient, FUNCTION_NAME, jar, environment, 1024);
+			// Leave the cold start out of the measurement
+			assertThat(LambdaFunctions.invoke(lambdaClient, FUNCTION_NAME, profile(0)).payload()).isEqualTo("1");
+
+			results.add(single(lambdaClient));
+			results.add(arrays(lambdaClient));
+			results.add(sqs(lambdaClient, sqsClient, cloudWatchClient, started));
+		}
+
+		for (Result result : results) {
+			logger.info(result.toString());
+		}
+		Result single = results.get(0);
+		assertThat(results.get(1).transactions()).isLessThan(single.transactions());
+		assertThat(results.get(2).transactions()).isLessThan(single.transactions());
+	}
+
+	private Result single(LambdaClient lambdaClient) throws Exception {
+		long transactions = transactions();
+		long start = System.nanoTime();
+		for (int i = 0; i < PROFILES; i++) {
+			assertThat(LambdaFunctions.invoke(lambdaClient, FUNCTION_NAME, profile(i)).payload()).isEqualTo("1");
+		}
+		return new Result("single", PROFILES, seconds(start), transactions() - transactions);
+	}
+
+	private Result arrays(LambdaClient lambdaClient) throws Exception {
+		long transactions = transactions();
+		long start = System.nanoTime();
+		for (int i = 0; i < PROFILES; i += BATCH_SIZE) {
+			StringJoiner profiles = new StringJoiner(",", "[", "]");
+			IntStream.range(i, i + BATCH_SIZE).forEach((index) -> profiles.add(profile(index)));
+			String payload = LambdaFunctions.invoke(lambdaClient, FUNCTION_NAME, profiles.toString()).payload();
+			assertThat(payload).isEqualTo("[1,1,1,1,1,1,1,1,1,1]");
+		}
+		return new Result("array", PROFILES / BATCH_SIZE, seconds(start), transactions() - transactions);
+	}
+
+	private Result sqs(LambdaClient lambdaClient, SqsClient sqsClient, CloudWatchClient cloudWatchClient,
+			Instant started) throws Exception {
+		String queueUrl = sqsClient.createQueue((request) -> request.queueName("profiles")).queueUrl();
+		String queueArn = sqsClient
+			.getQueueAttributes((request) -> request.queueUrl(queueUrl).attributeNames(QueueAttributeName.QUEUE_ARN))
+			.attributes()
+			.get(QueueAttributeName.QUEUE_ARN);
+		for (int i = 0; i < PROFILES; i += BATCH_SIZE) {
+			List<SendMessageBatchRequestEntry> entries = IntStream.range(i, i + BATCH_SIZE)
+				.mapToObj((index) -> SendMessageBatchRequestEntry.builder()
+					.id(String.valueOf(index))
+					.messageBody(profile(index))
+					.build())
+				.toList();
+			sqsClient.sendMessageBatch((request) -> request.queueUrl(queueUrl).entries(entries));
+		}
+
+		long transactions = transactions();
+		long start = System.nanoTime();
+		lambdaClient.createEventSourceMapping((request) -> request.functionName(FUNCTION_NAME)
+			.eventSourceArn(queueArn)
+			.batchSize(BATCH_SIZE)
+			.maximumBatchingWindowInSeconds(1)
+			.functionResponseTypes(FunctionResponseType.REPORT_BATCH_ITEM_FAILURES));
+		long deadline = System.nanoTime() + Duration.ofMinutes(5).toNanos();
+		while (remaining(sqsClient, queueUrl) > 0) {
+			assertThat(System.nanoTime()).as("queue drained").isLessThan(deadline);
+			Thread.sleep(200);
+		}
+		double seconds = seconds(start);
+		// Each invocation of the event source mapping receives up to BATCH_SIZE messages
+		long invocations = invocations(cloudWatchClient, started) - SYNCHRONOUS_INVOCATIONS;
+		while (invocations < PROFILES / BATCH_SIZE) {
+			assertThat(System.nanoTime()).as("invocations published").isLessThan(deadline);
+			Thread.sleep(1000);
+			invocations = invocations(cloudWatchClient, started) - SYNCHRONOUS_INVOCATIONS;
+		}
+		return new Result("sqs", (int) invocations, seconds, transactions() - transactions);
+	}
+
+	// The Invocations metric that Lambda publishes for the function, whatever invoked it
+	private static long invocations(CloudWatchClient cloudWatchClient, Instant started) {
+		return (long) cloudWatchClient
+			.getMetricStatistics((request) -> request.namespace("AWS/Lambda")
+				.metricName("Invocations")
+				.dimensions((dimension) -> dimension.name("FunctionName").value(FUNCTION_NAME))
+				.startTime(started.minus(Duration.ofMinutes(1)))
+				.endTime(Instant.now().plus(Duration.ofMinutes(1)))
+				.period(86_400)
+				.statistics(Statistic.SUM))
+			.datapoints()
+			.stream()
+			.mapToDouble(Datapoint::sum)
+			.sum();
+	}
+
+	private static int remaining(SqsClient sqsClient, String queueUrl) {
+		Map<QueueAttributeName, String> attributes = sqsClient
+			.getQueueAttributes((request) -> request.queueUrl(queueUrl)
+				.attributeNames(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES,
+						QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES_NOT_VISIBLE))
+			.attributes();
+		return Integer.parseInt(attributes.get(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES))
+				+ Integer.parseInt(attributes.get(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES_NOT_VISIBLE));
+	}
+
+	// The V1 migration seeds profile-1 to profile-4, so each name matches one profile
+	private static String profile(int index) {
+		return "{\"name\": \"profile-%d\"}".formatted(index % 4 + 1);
+	}
+
+	private static double seconds(long start) {
+		return (System.nanoTime() - start) / 1_000_000_000.0;
+	}
+
+	// Committed transactions of the test database, one per statement of the function as
+	// it runs in auto-commit. Statistics are flushed by backends with up to a second of
+	// delay.
+	private static long transactions() throws Exception {
+		Thread.sleep(1500);
+		try (Connection connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(),
+				postgres.getPassword());
+				PreparedStatement statement = connection
+					.prepareStatement("SELECT xact_commit FROM pg_stat_database WHERE datname = ?")) {
+			statement.setString(1, postgres.getDatabaseName());
+			try (ResultSet resultSet = statement.executeQuery()) {
+				resultSet.next();
+				return resultSet.getLong(1);
+			}
+		}
+	}
+
+	record Result(String name, int invocations, double seconds, long transactions) {
+
+		@Override
+		public String toString() {
+			return "%s: %d profiles in %d invocations, %.1f s, %.1f profiles/s, %.1f invocations/s, %d transactions"
+				.formatted(this.name, PROFILES, this.invocations, this.seconds, PROFILES / this.seconds,
+						this.invocations / this.seconds, this.transactions);
+		}
+
+	}
+
+}
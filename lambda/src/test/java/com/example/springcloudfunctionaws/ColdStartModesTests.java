@@ -0,0 +1,119 @@
+package com.example.springcloudfunctionaws;
+
+import com.example.springcloudfunctionaws.LambdaFunctions.Invocation;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.testcontainers.containers.Network;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.localstack.LocalStackContainer;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.lambda.LambdaClient;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+class ColdStartModesTests {
+
+	private static final Log logger = LogFactory.getLog(ColdStartModesTests.class);
+
+	private static final int WARM_INVOCATIONS = 20;
+
+	private static final String TIERED = "-XX:+TieredCompilation -XX:TieredStopAtLevel=1";
+
+	private static final String AOT = "-Dspring.aot.enabled=true";
+
+	static Path jar = LambdaFunctions.buildJar("jvm");
+
+	static Path aotJar = LambdaFunctions.buildJar("jvm-aot", "aot");
+
+	static Network network = Network.newNetwork();
+
+	@Container
+	static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:15-alpine").withNetwork(network)
+		.withNetworkAliases("postgres");
+
+	@Container
+	static LocalStackContainer localstack = new LocalStackContainer(
+			DockerImageName.parse("localstack/localstack:2026.06.0"))
+		.withNetwork(network)
+		.withEnv("LAMBDA_DOCKER_NETWORK", ((Network.NetworkImpl) network).getName())
+		.withEnv("LOCALSTACK_AUTH_TOKEN", System.getenv("LOCALSTACK_AUTH_TOKEN"));
+
+	@Test
+	void reportsColdAndWarmLatencyPerMode() throws Exception {
+		List<Mode> modes = List.of(new Mode("default", jar, Map.of()),
+				new Mode("lazy", jar, Map.of("SPRING_MAIN_LAZY_INITIALIZATION", "true")),
+				new Mode("tiered", jar, Map.of("JAVA_TOOL_OPTIONS", TIERED)),
+				new Mode("aot", aotJar, Map.of("JAVA_TOOL_OPTIONS", AOT)),
+				new Mode("primed", jar, Map.of("SAMPLE_LAMBDA_PRIMING_ENABLED", "true")),
+				new Mode("combined", aotJar, Map.of("JAVA_TOOL_OPTIONS", AOT + " " + TIERED,
+						"SPRING_MAIN_LAZY_INITIALIZATION", "true", "SAMPLE_LAMBDA_PRIMING_ENABLED", "true")));
+
+		List<Result> results = new ArrayList<>();
+		try (var lambdaClient = LambdaClient.builder()
+			.region(Region.of(localstack.getRegion()))
+			.credentialsProvider(StaticCredentialsProvider
+				.create(AwsBasicCredentials.create(localstack.getAccessKey(), localstack.getSecretKey())))
+			.endpointOverride(localstack.getEndpoint())
+			.build()) {
+			for (Mode mode : modes) {
+				results.add(run(lambdaClient, mode));
+			}
+		}
+
+		// A single cold start per mode is too noisy to rank the modes, so they are only
+		// reported. Each mode answered correctly, see run().
+		for (Result result : results) {
+			logger.info(result.toString());
+		}
+	}
+
+	private Result run(LambdaClient lambdaClient, Mode mode) throws Exception {
+		String name = "fetch-by-name-" + mode.name();
+		Map<String, String> environment = new HashMap<>(LambdaFunctions.DATASOURCE);
+		environment.putAll(mode.environment());
+		LambdaFunctions.createFunction(lambdaClient, name, mode.jar(), environment, 1024);
+
+		Invocation cold = LambdaFunctions.invoke(lambdaClient, name, "{\"name\": \"profile\"}");
+		assertThat(cold.payload()).isEqualTo("4");
+		List<Double> warm = new ArrayList<>();
+		for (int i = 0; i < WARM_INVOCATIONS; i++) {
+			warm.add(LambdaFunctions.invoke(lambdaClient, name, "{\"name\": \"profile\"}").latencyMillis());
+		}
+		return new Result(mode.name(), cold, warm.stream().sorted().toList());
+	}
+
+	record Mode(String name, Path jar, Map<String, String> environment) {
+
+	}
+
+	record Result(String mode, Invocation cold, List<Double> warm) {
+
+		double warmPercentile(double percentile) {
+			return this.warm.get((int) Math.ceil(percentile * this.warm.size()) - 1);
+		}
+
+		@Override
+		public String toString() {
+			return "%s: cold %.0f ms (init %.0f ms), warm p50 %.1f ms, max %.1f ms".formatted(this.mode,
+					this.cold.latencyMillis(), this.cold.initDurationMillis(), warmPercentile(0.5),
+					warmPercentile(1.0));
+		}
+
+	}
+
+}
@@ -0,0 +1,191 @@
+package com.example.springcloudfunctionaws;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.testcontainers.containers.Network;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.localstack.LocalStackContainer;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.lambda.LambdaClient;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+class ConnectionPoolingTests {
+
+	private static final Log logger = LogFactory.getLog(ConnectionPoolingTests.class);
+
+	private static final int INVOCATIONS = 400;
+
+	private static final int CONCURRENCY = 50;
+
+	static Path jar = LambdaFunctions.buildJar("jvm");
+
+	static Network network = Network.newNetwork();
+
+	@Container
+	static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:15-alpine").withNetwork(network)
+		.withNetworkAliases("postgres");
+
+	@Container
+	static LocalStackContainer localstack = new LocalStackContainer(
+			DockerImageName.parse("localstack/localstack:2026.06.0"))
+		.withNetwork(network)
+		.withEnv("LAMBDA_DOCKER_NETWORK", ((Network.NetworkImpl) network).getName())
+		.withEnv("LOCALSTACK_AUTH_TOKEN", System.getenv("LOCALSTACK_AUTH_TOKEN"));
+
+	@Test
+	void boundsDatabaseConnectionsUnderConcurrentInvocations() throws Exception {
+		Result pooled;
+		Result lambda;
+		try (var lambdaClient = LambdaClient.builder()
+			.region(Region.of(localstack.getRegion()))
+			.credentialsProvider(StaticCredentialsProvider
+				.create(AwsBasicCredentials.create(localstack.getAccessKey(), localstack.getSecretKey())))
+			.endpointOverride(localstack.getEndpoint())
+			.build()) {
+			pooled = run(lambdaClient, "fetch-by-name-hikari-defaults", Map.of());
+			lambda = run(lambdaClient, "fetch-by-name-lambda-datasource",
+					Map.of("SAMPLE_LAMBDA_DATASOURCE_ENABLED", "true"));
+		}
+
+		logger.info(pooled.toString());
+		logger.info(lambda.toString());
+		assertThat(lambda.errors()).isZero();
+		assertThat(lambda.peakConnections()).isLessThanOrEqualTo(CONCURRENCY);
+		assertThat(lambda.peakConnections()).isLessThan(pooled.peakConnections());
+	}
+
+	private Result run(LambdaClient lambdaClient, String name, Map<String, String> environment) throws Exception {
+		// The application name tells the connections of each function apart in
+		// pg_stat_activity
+		Map<String, String> variables = new HashMap<>(LambdaFunctions.DATASOURCE);
+		variables.put("SPRING_DATASOURCE_URL", "jdbc:postgresql://postgres:5432/test?ApplicationName=" + name);
+		variables.putAll(environment);
+		LambdaFunctions.createFunction(lambdaClient, name, jar, variables, 512);
+		URI functionUrl = URI
+			.create(LambdaFunctions.createFunctionUrl(lambdaClient, name, localstack.getMappedPort(4566)));
+
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicInteger peakConnections = new AtomicInteger();
+		AtomicInteger errors = new AtomicInteger();
+		List<Double> latencies = new ArrayList<>();
+		try (HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+				ExecutorService sampler = Executors.newSingleThreadExecutor();
+				ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY)) {
+			Future<?> sampling = sampler.submit(() -> {
+				while (running.get()) {
+					peakConnections.accumulateAndGet(connections(name), Math::max);
+					Thread.sleep(50);
+				}
+				return null;
+			});
+			try {
+				invoke(httpClient, executor, functionUrl, errors, latencies);
+			}
+			finally {
+				running.set(false);
+			}
+			sampling.get();
+		}
+		Result result = new Result(name, errors.get(), peakConnections.get(), connections(name),
+				latencies.stream().sorted().toList());
+		// The environments of the function stay warm and keep their connections, which
+		// would leave fewer than max_connections to the next function
+		lambdaClient.deleteFunction((request) -> request.functionName(name));
+		terminateConnections(name);
+		return result;
+	}
+
+	private void invoke(HttpClient httpClient, ExecutorService executor, URI functionUrl, AtomicInteger errors,
+			List<Double> latencies) throws Exception {
+		List<Future<Double>> futures = new ArrayList<>();
+		for (int i = 0; i < INVOCATIONS; i++) {
+			futures.add(executor.submit(() -> {
+				HttpRequest request = HttpRequest.newBuilder(functionUrl)
+					.timeout(Duration.ofSeconds(60))
+					.POST(HttpRequest.BodyPublishers.ofString("{\"name\": \"profile\"}"))
+					.build();
+				long start = System.nanoTime();
+				try {
+					HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+					if (response.statusCode() != 200 || !"4".equals(response.body())) {
+						errors.incrementAndGet();
+					}
+				}
+				catch (IOException ex) {
+					errors.incrementAndGet();
+				}
+				return (System.nanoTime() - start) / 1_000_000.0;
+			}));
+		}
+		for (Future<Double> future : futures) {
+			latencies.add(future.get());
+		}
+	}
+
+	private static int connections(String applicationName) throws SQLException {
+		return count("SELECT COUNT(*) FROM pg_stat_activity WHERE application_name = ?", applicationName);
+	}
+
+	private static void terminateConnections(String applicationName) throws SQLException {
+		count("SELECT COUNT(pg_terminate_backend(pid)) FROM pg_stat_activity WHERE application_name = ?",
+				applicationName);
+	}
+
+	private static int count(String query, String applicationName) throws SQLException {
+		try (Connection connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(),
+				postgres.getPassword()); PreparedStatement statement = connection.prepareStatement(query)) {
+			statement.setString(1, applicationName);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				resultSet.next();
+				return resultSet.getInt(1);
+			}
+		}
+	}
+
+	record Result(String name, int errors, int peakConnections, int connectionsAfter, List<Double> latencies) {
+
+		double percentile(double percentile) {
+			return this.latencies.get((int) Math.ceil(percentile * this.latencies.size()) - 1);
+		}
+
+		@Override
+		public String toString() {
+			return "%s: %d errors, %d peak connections, %d after, p50 %.1f ms, p99 %.1f ms".formatted(this.name,
+					this.errors, this.peakConnections, this.connectionsAfter, percentile(0.5), percentile(0.99));
+		}
+
+	}
+
+}
@@ -0,0 +1,211 @@
+package com.example.springcloudfunctionaws;
+
+import org.apache.maven.shared.invoker.DefaultInvocationRequest;
+import org.apache.maven.shared.invoker.DefaultInvoker;
+import org.apache.maven.shared.invoker.InvocationResult;
+import org.apache.maven.shared.invoker.MavenInvocationException;
+import org.springframework.util.StringUtils;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.BindMode;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.startupcheck.OneShotStartupCheckStrategy;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.lambda.LambdaClient;
+import software.amazon.awssdk.services.lambda.model.Architecture;
+import software.amazon.awssdk.services.lambda.model.FunctionUrlAuthType;
+import software.amazon.awssdk.services.lambda.model.InvokeResponse;
+import software.amazon.awssdk.services.lambda.model.LogType;
+import software.amazon.awssdk.services.lambda.model.PackageType;
+import software.amazon.awssdk.services.lambda.model.Runtime;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Packaging and deployment helpers shared by the tests that compare deployments of the
+ * {@code fetchByName} function.
+ */
+final class LambdaFunctions {
+
+	static final String HANDLER = "org.springframework.cloud.function.adapter.aws.FunctionInvoker::handleRequest";
+
+	static final Map<String, String> DATASOURCE = Map.of("SPRING_DATASOURCE_URL",
+			"jdbc:postgresql://postgres:5432/test", "SPRING_DATASOURCE_USERNAME", "test", "SPRING_DATASOURCE_PASSWORD",
+			"test");
+
+	private static final String NATIVE_BUILDER_IMAGE = "ghcr.io/graalvm/native-image-community:25";
+
+	private static final Pattern INIT_DURATION = Pattern.compile("Init Duration: ([0-9.]+) ms");
+
+	private static final Pattern MAX_MEMORY_USED = Pattern.compile("Max Memory Used: ([0-9]+) MB");
+
+	private LambdaFunctions() {
+	}
+
+	/**
+	 * Packages the module with the given Maven profiles and copies the {@code -aws.jar}
+	 * to {@code target/lambda-jars/<name>.jar}, so that builds with different profiles
+	 * can coexist. Build without profiles first: nothing cleans the output of a previous
+	 * profile, such as AOT generated classes, which are unused unless enabled at runtime.
+	 */
+	static Path buildJar(String name, String... profiles) {
+		runPackage(System.getenv("JAVA_HOME"), profiles);
+		return copy(Paths.get("target/lambda-0.0.1-SNAPSHOT-aws.jar"), name + ".jar");
+	}
+
+	/**
+	 * Builds the GraalVM native image of the function with the {@code native} and
+	 * {@code native-lambda} profiles in a Linux container of the Docker host's
+	 * architecture, see {@link #architecture()}, and copies the {@code provided.al2023}
+	 * deployment package to {@code target/lambda-jars/<name>.zip}. The container runs as
+	 * the owner of the project and shares the local Maven repository, so everything it
+	 * writes belongs to that user.
+	 */
+	static Path buildNativeZip(String name) {
+		Path project = Paths.get("..").toAbsolutePath().normalize();
+		Path repository = Paths.get(System.getProperty("user.home"), ".m2", "repository");
+		String owner = owner(project);
+		String build = "./mvnw -B -f lambda/pom.xml -Dmaven.repo.local=/m2/repository -Pnative,native-lambda "
+				+ "-DskipTests package";
+		try (GenericContainer<?> container = new GenericContainer<>(DockerImageName.parse(NATIVE_BUILDER_IMAGE))
+			.withFileSystemBind(project.toString(), "/workspace", BindMode.READ_WRITE)
+			.withFileSystemBind(repository.toString(), "/m2/repository", BindMode.READ_WRITE)
+			.withWorkingDirectory("/workspace")
+			.withEnv("HOME", "/tmp")
+			.withCreateContainerCmdModifier((cmd) -> cmd.withUser(owner).withEntrypoint("sh", "-c"))
+			.withCommand(build)
+			.withStartupCheckStrategy(new OneShotStartupCheckStrategy().withTimeout(Duration.ofMinutes(30)))) {
+			container.start();
+		}
+		catch (ContainerLaunchException ex) {
+			throw new IllegalStateException("Native build with profiles [native, native-lambda] failed", ex);
+		}
+		return copy(Paths.get("target/lambda-0.0.1-SNAPSHOT-native-lambda.zip"), name + ".zip");
+	}
+
+	private static String owner(Path path) {
+		try {
+			return Files.getAttribute(path, "unix:uid") + ":" + Files.getAttribute(path, "unix:gid");
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Could not read the owner of " + path, ex);
+		}
+	}
+
+	/**
+	 * The architecture of the Docker host, which runs both the native build and the
+	 * function containers, so that neither is emulated.
+	 */
+	static Architecture architecture() {
+		String architecture = DockerClientFactory.instance().getInfo().getArchitecture();
+		return ("aarch64".equals(architecture) || "arm64".equals(architecture)) ? Architecture.ARM64
+				: Architecture.X86_64;
+	}
+
+	private static void runPackage(String javaHome, String... profiles) {
+		try {
+			var properties = new Properties();
+			properties.setProperty("skipTests", "true");
+
+			var request = new DefaultInvocationRequest();
+			if (StringUtils.hasText(System.getenv("MAVEN_HOME"))) {
+				request.setMavenHome(new File(System.getenv("MAVEN_HOME")));
+			}
+			request.setJavaHome(new File(javaHome));
+			request.setPomFile(Paths.get("pom.xml").toFile());
+			request.setGoals(List.of("package"));
+			request.setProfiles(List.of(profiles));
+			request.setProperties(properties);
+			InvocationResult result = new DefaultInvoker().execute(request);
+			if (result.getExitCode() != 0) {
+				throw new IllegalStateException("Build with profiles " + List.of(profiles) + " failed",
+						result.getExecutionException());
+			}
+		}
+		catch (MavenInvocationException ex) {
+			throw new RuntimeException("Could not build package", ex);
+		}
+	}
+
+	private static Path copy(Path artifact, String fileName) {
+		try {
+			Path target = Paths.get("target", "lambda-jars", fileName);
+			Files.createDirectories(target.getParent());
+			return Files.copy(artifact, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Could not copy " + artifact, ex);
+		}
+	}
+
+	static void createFunction(LambdaClient lambdaClient, String name, Path jar, Map<String, String> environment,
+			int memorySize) throws IOException {
+		createFunction(lambdaClient, name, Runtime.JAVA25, HANDLER, jar, environment, memorySize);
+	}
+
+	static void createFunction(LambdaClient lambdaClient, String name, Runtime runtime, String handler, Path zip,
+			Map<String, String> environment, int memorySize) throws IOException {
+		SdkBytes code = SdkBytes.fromByteArray(Files.readAllBytes(zip));
+		lambdaClient.createFunction((request) -> request.functionName(name)
+			.runtime(runtime)
+			.architectures(architecture())
+			.role("arn:aws:iam::123456789012:role/irrelevant")
+			.packageType(PackageType.ZIP)
+			.code((builder) -> builder.zipFile(code))
+			.timeout(60)
+			.memorySize(memorySize)
+			.handler(handler)
+			.environment((env) -> env.variables(environment)));
+		lambdaClient.waiter().waitUntilFunctionActive((request) -> request.functionName(name));
+	}
+
+	static String createFunctionUrl(LambdaClient lambdaClient, String name, int mappedPort) {
+		return lambdaClient
+			.createFunctionUrlConfig((request) -> request.functionName(name).authType(FunctionUrlAuthType.NONE))
+			.functionUrl()
+			.replace("4566", String.valueOf(mappedPort));
+	}
+
+	static Invocation invoke(LambdaClient lambdaClient, String name, String payload) {
+		long start = System.nanoTime();
+		InvokeResponse response = lambdaClient.invoke((
+				request) -> request.functionName(name).logType(LogType.TAIL).payload(SdkBytes.fromUtf8String(payload)));
+		long latency = System.nanoTime() - start;
+		if (response.functionError() != null) {
+			throw new IllegalStateException("Invocation of " + name + " failed: " + response.payload().asUtf8String());
+		}
+		String log = (response.logResult() != null)
+				? new String(Base64.getDecoder().decode(response.logResult()), StandardCharsets.UTF_8) : "";
+		return new Invocation(response.payload().asUtf8String(), latency / 1_000_000.0, match(INIT_DURATION, log),
+				match(MAX_MEMORY_USED, log));
+	}
+
+	private static double match(Pattern pattern, String log) {
+		Matcher matcher = pattern.matcher(log);
+		return matcher.find() ? Double.parseDouble(matcher.group(1)) : Double.NaN;
+	}
+
+	/**
+	 * The result of a synchronous invocation, with the client-side latency and, when the
+	 * runtime reports them in the log tail, the init duration and memory used.
+	 */
+	record Invocation(String payload, double latencyMillis, double initDurationMillis, double maxMemoryUsedMb) {
+
+	}
+
+}
@@ -0,0 +1,116 @@
+package com.example.springcloudfunctionaws;
+
+import com.example.springcloudfunctionaws.LambdaFunctions.Invocation;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.testcontainers.containers.Network;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.localstack.LocalStackContainer;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.lambda.LambdaClient;
+import software.amazon.awssdk.services.lambda.model.Runtime;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@EnabledIfSystemProperty(named = "lambda.native", matches = "true")
+class NativeRuntimeComparisonTests {
+
+	private static final Log logger = LogFactory.getLog(NativeRuntimeComparisonTests.class);
+
+	private static final int WARM_INVOCATIONS = 50;
+
+	private static final int MEMORY_SIZE = 512;
+
+	static Path jar = LambdaFunctions.buildJar("jvm");
+
+	static Path nativeZip = LambdaFunctions.buildNativeZip("native");
+
+	static Network network = Network.newNetwork();
+
+	@Container
+	static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:15-alpine").withNetwork(network)
+		.withNetworkAliases("postgres");
+
+	@Container
+	static LocalStackContainer localstack = new LocalStackContainer(
+			DockerImageName.parse("localstack/localstack:2026.06.0"))
+		.withNetwork(network)
+		.withEnv("LAMBDA_DOCKER_NETWORK", ((Network.NetworkImpl) network).getName())
+		.withEnv("LOCALSTACK_AUTH_TOKEN", System.getenv("LOCALSTACK_AUTH_TOKEN"));
+
+	@Test
+	void comparesNativeAndJvmDeployments() throws Exception {
+		Result jvm;
+		Result nativeImage;
+		try (var lambdaClient = LambdaClient.builder()
+			.region(Region.of(localstack.getRegion()))
+			.credentialsProvider(StaticCredentialsProvider
+				.create(AwsBasicCredentials.create(localstack.getAccessKey(), localstack.getSecretKey())))
+			.endpointOverride(localstack.getEndpoint())
+			.build()) {
+			LambdaFunctions.createFunction(lambdaClient, "fetch-by-name-jvm", jar, LambdaFunctions.DATASOURCE,
+					MEMORY_SIZE);
+			jvm = run(lambdaClient, "fetch-by-name-jvm");
+
+			// With a function name as _HANDLER, Spring Cloud Function starts its custom
+			// runtime event loop instead of expecting a FunctionInvoker
+			LambdaFunctions.createFunction(lambdaClient, "fetch-by-name-native", Runtime.PROVIDED_AL2023, "fetchByName",
+					nativeZip, LambdaFunctions.DATASOURCE, MEMORY_SIZE);
+			nativeImage = run(lambdaClient, "fetch-by-name-native");
+		}
+
+		// A single cold start of each is too noisy to rank them, so they are only
+		// reported. Both answered correctly, see run().
+		logger.info(jvm.toString());
+		logger.info(nativeImage.toString());
+	}
+
+	private Result run(LambdaClient lambdaClient, String name) {
+		Invocation cold = LambdaFunctions.invoke(lambdaClient, name, "{\"name\": \"profile\"}");
+		assertThat(cold.payload()).isEqualTo("4");
+		List<Invocation> warm = new ArrayList<>();
+		for (int i = 0; i < WARM_INVOCATIONS; i++) {
+			warm.add(LambdaFunctions.invoke(lambdaClient, name, "{\"name\": \"profile\"}"));
+		}
+		return new Result(name, cold, warm);
+	}
+
+	record Result(String name, Invocation cold, List<Invocation> warm) {
+
+		double warmPercentile(double percentile) {
+			List<Double> latencies = this.warm.stream().map(Invocation::latencyMillis).sorted().toList();
+			return latencies.get((int) Math.ceil(percentile * latencies.size()) - 1);
+		}
+
+		double maxMemoryUsedMb() {
+			return this.warm.stream()
+				.mapToDouble(Invocation::maxMemoryUsedMb)
+				.filter((memory) -> !Double.isNaN(memory))
+				.max()
+				.orElse(Double.NaN);
+		}
+
+		@Override
+		public String toString() {
+			return "%s: cold %.0f ms (init %.0f ms), warm p50 %.1f ms, p99 %.1f ms, %.0f MB".formatted(
+					this.name.replace("fetch-by-name-", ""), this.cold.latencyMillis(), this.cold.initDurationMillis(),
+					warmPercentile(0.5), warmPercentile(0.99), maxMemoryUsedMb());
+		}
+
+	}
+
+}
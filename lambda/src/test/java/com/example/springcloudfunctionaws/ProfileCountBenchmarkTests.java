@@ -0,0 +1,162 @@
+package com.example.springcloudfunctionaws;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.testcontainers.containers.Network;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.localstack.LocalStackContainer;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.lambda.LambdaClient;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+class ProfileCountBenchmarkTests {
+
+	private static final Log logger = LogFactory.getLog(ProfileCountBenchmarkTests.class);
+
+	private static final int PROFILES = 2_000_000;
+
+	private static final int INVOCATIONS = 200;
+
+	// Each prefix matches 100 of the seeded profiles
+	private static final List<String> PREFIXES = List.of("user-00012", "user-00345", "user-01234", "user-05678",
+			"user-09999", "user-10000", "user-12345", "user-15000", "user-17777", "user-19999");
+
+	static Path jar = LambdaFunctions.buildJar("jvm");
+
+	static Network network = Network.newNetwork();
+
+	@Container
+	static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:15-alpine").withNetwork(network)
+		.withNetworkAliases("postgres");
+
+	@Container
+	static LocalStackContainer localstack = new LocalStackContainer(
+			DockerImageName.parse("localstack/localstack:2026.06.0"))
+		.withNetwork(network)
+		.withEnv("LAMBDA_DOCKER_NETWORK", ((Network.NetworkImpl) network).getName())
+		.withEnv("LOCALSTACK_AUTH_TOKEN", System.getenv("LOCALSTACK_AUTH_TOKEN"));
+
+	@Test
+	void reportsLatencyBeforeAndAfterIndexAndCache() throws Exception {
+		// The test owns the schema so that the functions do not race to create the index
+		migrate("1");
+		seed();
+		analyze();
+		String unindexedPlan = plan();
+
+		List<Result> results = new ArrayList<>();
+		try (var lambdaClient = LambdaClient.builder()
+			.region(Region.of(localstack.getRegion()))
+			.credentialsProvider(StaticCredentialsProvider
+				.create(AwsBasicCredentials.create(localstack.getAccessKey(), localstack.getSecretKey())))
+			.endpointOverride(localstack.getEndpoint())
+			.build()) {
+			results.add(run(lambdaClient, "unindexed", Map.of()));
+			migrate("latest");
+			analyze();
+			results.add(run(lambdaClient, "indexed", Map.of()));
+			results.add(run(lambdaClient, "indexed-cached", Map.of("SAMPLE_LAMBDA_COUNT_CACHE_ENABLED", "true")));
+		}
+		String indexedPlan = plan();
+
+		logger.info("Query plan without index:%n%s%nQuery plan with index:%n%s".formatted(unindexedPlan, indexedPlan));
+		for (Result result : results) {
+			logger.info("%s: p50 %.1f ms, p99 %.1f ms, max %.1f ms".formatted(result.name(), result.percentile(0.5),
+					result.percentile(0.99), result.percentile(1.0)));
+		}
+		assertThat(indexedPlan).contains("profile_name_prefix_idx");
+		assertThat(results.get(1).percentile(0.5)).isLessThan(results.get(0).percentile(0.5));
+	}
+
+	private Result run(LambdaClient lambdaClient, String mode, Map<String, String> environment) throws Exception {
+		String name = "fetch-by-name-" + mode;
+		Map<String, String> variables = new HashMap<>(LambdaFunctions.DATASOURCE);
+		variables.put("SPRING_FLYWAY_ENABLED", "false");
+		variables.putAll(environment);
+		LambdaFunctions.createFunction(lambdaClient, name, jar, variables, 1024);
+
+		// Leave the cold start out of the measurement
+		assertThat(LambdaFunctions.invoke(lambdaClient, name, "{\"name\": \"profile\"}").payload()).isEqualTo("4");
+		List<Double> latencies = new ArrayList<>();
+		for (int i = 0; i < INVOCATIONS; i++) {
+			String prefix = PREFIXES.get(i % PREFIXES.size());
+			LambdaFunctions.Invocation invocation = LambdaFunctions.invoke(lambdaClient, name,
+					"{\"name\": \"" + prefix + "\"}");
+			assertThat(invocation.payload()).isEqualTo("100");
+			latencies.add(invocation.latencyMillis());
+		}
+		return new Result(mode, latencies.stream().sorted().toList());
+	}
+
+	private static void migrate(String target) {
+		Flyway.configure()
+			.dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+			.target(target)
+			.load()
+			.migrate();
+	}
+
+	private static void seed() throws SQLException {
+		try (Connection connection = connection(); Statement statement = connection.createStatement()) {
+			long start = System.nanoTime();
+			statement.execute("INSERT INTO profile (name) SELECT 'user-' || lpad(i::text, 7, '0') "
+					+ "FROM generate_series(0, " + (PROFILES - 1) + ") AS i");
+			logger.info("Seeded %d profiles in %d ms".formatted(PROFILES, (System.nanoTime() - start) / 1_000_000));
+		}
+	}
+
+	private static void analyze() throws SQLException {
+		try (Connection connection = connection(); Statement statement = connection.createStatement()) {
+			statement.execute("VACUUM ANALYZE profile");
+		}
+	}
+
+	private static String plan() throws SQLException {
+		try (Connection connection = connection();
+				Statement statement = connection.createStatement();
+				ResultSet resultSet = statement
+					.executeQuery("EXPLAIN ANALYZE SELECT COUNT(*) FROM profile WHERE name LIKE 'user-00012%'")) {
+			StringJoiner plan = new StringJoiner(System.lineSeparator());
+			while (resultSet.next()) {
+				plan.add(resultSet.getString(1));
+			}
+			return plan.toString();
+		}
+	}
+
+	private static Connection connection() throws SQLException {
+		return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+	}
+
+	record Result(String name, List<Double> latencies) {
+
+		double percentile(double percentile) {
+			return this.latencies.get((int) Math.ceil(percentile * this.latencies.size()) - 1);
+		}
+
+	}
+
+}
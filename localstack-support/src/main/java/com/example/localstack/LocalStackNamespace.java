@@ -0,0 +1,100 @@
+package com.example.localstack;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.containers.Container.ExecResult;
+import org.testcontainers.containers.ExecConfig;
+import org.testcontainers.localstack.LocalStackContainer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An isolated view of the {@link SharedLocalStack} for a single test class.
+ * <p>
+ * Every namespace gets its own random 12-digit account id, which LocalStack takes from
+ * the access key, so queues, parameters, secrets, state machines and so on never clash
+ * between test classes. S3 bucket names are global across accounts and must go through
+ * {@link #name(String)}.
+ */
+public final class LocalStackNamespace {
+
+	private static final String SECRET_KEY = "test";
+
+	private static final int MAX_PREFIX_LENGTH = 30;
+
+	private final LocalStackContainer localstack;
+
+	private final String prefix;
+
+	private final String accountId;
+
+	private LocalStackNamespace(LocalStackContainer localstack, String prefix, String accountId) {
+		this.localstack = localstack;
+		this.prefix = prefix;
+		this.accountId = accountId;
+	}
+
+	public static LocalStackNamespace forClass(Class<?> testClass) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		String name = testClass.getSimpleName().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+		String prefix = name.substring(0, Math.min(name.length(), MAX_PREFIX_LENGTH)) + "-"
+				+ HexFormat.of().toHexDigits(random.nextInt(), 6);
+		String accountId = Long.toString(random.nextLong(100_000_000_000L, 1_000_000_000_000L));
+		return new LocalStackNamespace(SharedLocalStack.getInstance(), prefix, accountId);
+	}
+
+	public LocalStackContainer getContainer() {
+		return this.localstack;
+	}
+
+	public String getPrefix() {
+		return this.prefix;
+	}
+
+	public String name(String name) {
+		return this.prefix + "-" + name;
+	}
+
+	public String getAccountId() {
+		return this.accountId;
+	}
+
+	public String getAccessKey() {
+		return this.accountId;
+	}
+
+	public String getSecretKey() {
+		return SECRET_KEY;
+	}
+
+	public String getRegion() {
+		return this.localstack.getRegion();
+	}
+
+	public URI getEndpoint() {
+		return this.localstack.getEndpoint();
+	}
+
+	public ExecResult awslocal(String... args) throws IOException, InterruptedException {
+		String[] command = new String[args.length + 1];
+		command[0] = "awslocal";
+		System.arraycopy(args, 0, command, 1, args.length);
+		return this.localstack.execInContainer(ExecConfig.builder()
+			.command(command)
+			.envVars(Map.of("AWS_ACCESS_KEY_ID", this.accountId, "AWS_SECRET_ACCESS_KEY", SECRET_KEY,
+					"AWS_DEFAULT_REGION", getRegion()))
+			.build());
+	}
+
+	public void registerProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.cloud.aws.endpoint", () -> getEndpoint().toString());
+		registry.add("spring.cloud.aws.region.static", this::getRegion);
+		registry.add("spring.cloud.aws.credentials.access-key", this::getAccessKey);
+		registry.add("spring.cloud.aws.credentials.secret-key", this::getSecretKey);
+	}
+
+}
@@ -0,0 +1,53 @@
+package com.example.localstack;
+
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLocksProvider;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link ResourceLocksProvider} backed by {@link LocalStackResources}. Every test takes a
+ * read lock on the container and on each service it uses, shared resources are locked for
+ * writing and {@link LocalStackResources#exclusive() exclusive} tests lock the whole
+ * container for writing.
+ */
+public class LocalStackResourceLocks implements ResourceLocksProvider {
+
+	static final String CONTAINER = "localstack";
+
+	@Override
+	public Set<Lock> provideForClass(Class<?> testClass) {
+		return locks(testClass);
+	}
+
+	@Override
+	public Set<Lock> provideForNestedClass(List<Class<?>> enclosingInstanceTypes, Class<?> testClass) {
+		return locks(testClass);
+	}
+
+	@Override
+	public Set<Lock> provideForMethod(List<Class<?>> enclosingInstanceTypes, Class<?> testClass, Method testMethod) {
+		return locks(testMethod);
+	}
+
+	private Set<Lock> locks(AnnotatedElement element) {
+		Set<Lock> locks = new HashSet<>();
+		AnnotationSupport.findAnnotation(element, LocalStackResources.class).ifPresent(resources -> {
+			locks.add(new Lock(CONTAINER,
+					resources.exclusive() ? ResourceAccessMode.READ_WRITE : ResourceAccessMode.READ));
+			for (String service : resources.value()) {
+				locks.add(new Lock(CONTAINER + ":" + service, ResourceAccessMode.READ));
+			}
+			for (String resource : resources.shared()) {
+				locks.add(new Lock(CONTAINER + ":" + resource, ResourceAccessMode.READ_WRITE));
+			}
+		});
+		return locks;
+	}
+
+}
@@ -0,0 +1,44 @@
+package com.example.localstack;
+
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares which LocalStack services and shared resources a test class or method uses, so
+ * that JUnit can run it concurrently with the tests it does not conflict with.
+ *
+ * @see LocalStackResourceLocks
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@ResourceLock(providers = LocalStackResourceLocks.class)
+public @interface LocalStackResources {
+
+	/**
+	 * The LocalStack services used by the test, e.g. {@code "s3"} or {@code "sqs"}.
+	 */
+	String[] value() default {};
+
+	/**
+	 * Resources that are not isolated by a {@link LocalStackNamespace}, e.g.
+	 * {@code "ses:mailbox"}. Tests declaring the same resource never run concurrently.
+	 */
+	String[] shared() default {};
+
+	/**
+	 * Whether the test needs the container to itself, e.g. because it measures
+	 * throughput. Like all the locks, this only holds within the test JVM of a module:
+	 * the tests of other modules built concurrently with {@code -T} may use the reused
+	 * container at the same time.
+	 */
+	boolean exclusive() default false;
+
+}
@@ -0,0 +1,85 @@
+package com.example.localstack;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logs how much the test classes of a parallel run overlapped: the sum of the class
+ * durations measured in that run against its wall-clock time. The sum approximates, but
+ * is not, the duration of a serial run, as concurrent classes slow each other down.
+ * Nothing is reported unless {@code junit.jupiter.execution.parallel.enabled} is set.
+ */
+public class ParallelismReport implements TestExecutionListener {
+
+	private static final Log logger = LogFactory.getLog(ParallelismReport.class);
+
+	private final Map<UniqueId, Long> started = new ConcurrentHashMap<>();
+
+	private final LongAdder classNanos = new LongAdder();
+
+	private final AtomicInteger classes = new AtomicInteger();
+
+	private final AtomicInteger running = new AtomicInteger();
+
+	private final AtomicInteger maxRunning = new AtomicInteger();
+
+	private volatile long planStarted;
+
+	private volatile boolean enabled;
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.enabled = testPlan.getConfigurationParameters()
+			.getBoolean("junit.jupiter.execution.parallel.enabled")
+			.orElse(false);
+		this.planStarted = System.nanoTime();
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		if (isTestClass(testIdentifier)) {
+			this.started.put(testIdentifier.getUniqueIdObject(), System.nanoTime());
+			this.maxRunning.accumulateAndGet(this.running.incrementAndGet(), Math::max);
+		}
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		Long start = this.started.remove(testIdentifier.getUniqueIdObject());
+		if (start != null) {
+			this.classNanos.add(System.nanoTime() - start);
+			this.running.decrementAndGet();
+			this.classes.incrementAndGet();
+		}
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		if (!this.enabled || this.classes.get() == 0) {
+			return;
+		}
+		Duration wallClock = Duration.ofNanos(System.nanoTime() - this.planStarted);
+		Duration classTotal = Duration.ofNanos(this.classNanos.sum());
+		logger.info(("Parallelism report: %d test classes, sum of class durations %d ms, wall-clock %d ms, "
+				+ "overlap %.2fx, at most %d classes at once")
+			.formatted(this.classes.get(), classTotal.toMillis(), wallClock.toMillis(),
+					(double) classTotal.toNanos() / Math.max(1, wallClock.toNanos()), this.maxRunning.get()));
+	}
+
+	private boolean isTestClass(TestIdentifier testIdentifier) {
+		return testIdentifier.isContainer() && testIdentifier.getSource().orElse(null) instanceof ClassSource;
+	}
+
+}
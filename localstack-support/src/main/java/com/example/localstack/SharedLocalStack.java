@@ -0,0 +1,30 @@
+package com.example.localstack;
+
+import org.testcontainers.localstack.LocalStackContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * A single {@link LocalStackContainer} shared by every test class of the JVM. The
+ * container is reusable, so with {@code testcontainers.reuse.enable=true} the modules of
+ * a reactor build attach to the same instance. Test classes should access it through a
+ * {@link LocalStackNamespace}.
+ */
+public final class SharedLocalStack {
+
+	public static final DockerImageName IMAGE = DockerImageName.parse("localstack/localstack:2026.06.0");
+
+	private static final LocalStackContainer CONTAINER = new LocalStackContainer(IMAGE)
+		.withEnv("LOCALSTACK_AUTH_TOKEN", System.getenv("LOCALSTACK_AUTH_TOKEN"))
+		.withReuse(true);
+
+	private SharedLocalStack() {
+	}
+
+	public static synchronized LocalStackContainer getInstance() {
+		if (!CONTAINER.isRunning()) {
+			CONTAINER.start();
+		}
+		return CONTAINER;
+	}
+
+}
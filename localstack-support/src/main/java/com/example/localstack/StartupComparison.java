@@ -0,0 +1,43 @@
+package com.example.localstack;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Startup times of a baseline and a candidate configuration, measured in alternating
+ * runs. Only the fastest run of each counts, so that a cold first run does not decide the
+ * outcome.
+ *
+ * @param baseline the startup times of the baseline, in run order
+ * @param candidate the startup times of the candidate, in run order
+ */
+public record StartupComparison(List<Duration> baseline, List<Duration> candidate) {
+
+	public static StartupComparison run(int runs, Supplier<Duration> baseline, Supplier<Duration> candidate) {
+		List<Duration> baselineTimes = new ArrayList<>();
+		List<Duration> candidateTimes = new ArrayList<>();
+		for (int run = 0; run < runs; run++) {
+			baselineTimes.add(baseline.get());
+			candidateTimes.add(candidate.get());
+		}
+		return new StartupComparison(List.copyOf(baselineTimes), List.copyOf(candidateTimes));
+	}
+
+	public Duration bestBaseline() {
+		return this.baseline.stream().min(Duration::compareTo).orElseThrow();
+	}
+
+	public Duration bestCandidate() {
+		return this.candidate.stream().min(Duration::compareTo).orElseThrow();
+	}
+
+	@Override
+	public String toString() {
+		return "%s ms vs %s ms (%.1fx)".formatted(this.baseline.stream().map(Duration::toMillis).toList(),
+				this.candidate.stream().map(Duration::toMillis).toList(),
+				(double) bestBaseline().toNanos() / bestCandidate().toNanos());
+	}
+
+}
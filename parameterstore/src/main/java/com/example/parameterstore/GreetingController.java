@@ -1,18 +1,38 @@
 package com.example.parameterstore;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@RefreshScope
 public class GreetingController {
 
 	@Value("${text}")
 	private String text;
 
+	@Value("${sample.parameters.greeting:/spring/config/text}")
+	private String greetingParameter;
+
+	private final ParameterCache parameterCache;
+
+	private final GreetingProperties greetingProperties;
+
+	public GreetingController(ParameterCache parameterCache, GreetingProperties greetingProperties) {
+		this.parameterCache = parameterCache;
+		this.greetingProperties = greetingProperties;
+	}
+
 	@GetMapping("/greetings")
 	public String greeting() {
-		return this.text;
+		return this.parameterCache.get(this.greetingParameter).orElse(this.text);
+	}
+
+	@GetMapping("/greetings/{language}")
+	public String greeting(@PathVariable String language) {
+		return this.greetingProperties.getMessages().getOrDefault(language, this.text);
 	}
 
 }
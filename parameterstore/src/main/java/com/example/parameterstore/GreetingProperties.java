@@ -0,0 +1,25 @@
+package com.example.parameterstore;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Greetings per language, for example from a {@code /spring/config/greeting.messages.de}
+ * parameter. A mutable JavaBean so that it can be rebound when parameters change.
+ */
+@ConfigurationProperties("greeting")
+public class GreetingProperties {
+
+	private Map<String, String> messages = new HashMap<>();
+
+	public Map<String, String> getMessages() {
+		return this.messages;
+	}
+
+	public void setMessages(Map<String, String> messages) {
+		this.messages = messages;
+	}
+
+}
@@ -0,0 +1,79 @@
+package com.example.parameterstore;
+
+import com.example.configdata.ConcurrentConfigDataLoader;
+import com.example.configdata.ConcurrentConfigDataResource;
+import org.springframework.boot.bootstrap.BootstrapContext;
+import org.springframework.boot.context.config.ConfigDataResourceNotFoundException;
+import org.springframework.boot.logging.DeferredLogFactory;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.GetParametersByPathResponse;
+import software.amazon.awssdk.services.ssm.model.GetParametersResponse;
+import software.amazon.awssdk.services.ssm.model.Parameter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads {@code aws-parameterstore-parallel:} imports with up to
+ * {@code sample.parameters.bootstrap.concurrency} concurrent SSM calls: one paginated
+ * {@code GetParametersByPath} per path and one {@code GetParameters} per group of 10
+ * names. Later paths and names take precedence over earlier ones.
+ */
+public class ParallelParameterStoreConfigDataLoader extends ConcurrentConfigDataLoader {
+
+	private static final int MAX_NAMES_PER_GET_PARAMETERS = 10;
+
+	public ParallelParameterStoreConfigDataLoader(DeferredLogFactory logFactory) {
+		super(ParallelParameterStoreConfigDataLocationResolver.PREFIX,
+				logFactory.getLog(ParallelParameterStoreConfigDataLoader.class));
+	}
+
+	@Override
+	protected List<Callable<Map<String, Object>>> loads(BootstrapContext context, ConcurrentConfigDataResource resource,
+			AtomicInteger calls) {
+		SsmClient ssmClient = context.get(SsmClient.class);
+		List<Callable<Map<String, Object>>> loads = new ArrayList<>();
+		for (String path : resource.getGroups()) {
+			loads.add(() -> loadPath(ssmClient, path, calls));
+		}
+		List<String> names = resource.getNames();
+		for (int from = 0; from < names.size(); from += MAX_NAMES_PER_GET_PARAMETERS) {
+			List<String> group = names.subList(from, Math.min(from + MAX_NAMES_PER_GET_PARAMETERS, names.size()));
+			loads.add(() -> loadNames(ssmClient, group, calls, resource));
+		}
+		return loads;
+	}
+
+	private Map<String, Object> loadPath(SsmClient ssmClient, String path, AtomicInteger calls) {
+		Map<String, Object> properties = new LinkedHashMap<>();
+		for (GetParametersByPathResponse page : ssmClient
+			.getParametersByPathPaginator((request) -> request.path(path).recursive(true).withDecryption(true))) {
+			calls.incrementAndGet();
+			for (Parameter parameter : page.parameters()) {
+				properties.put(parameter.name().substring(path.length()).replace('/', '.'), parameter.value());
+			}
+		}
+		return properties;
+	}
+
+	private Map<String, Object> loadNames(SsmClient ssmClient, List<String> names, AtomicInteger calls,
+			ConcurrentConfigDataResource resource) {
+		calls.incrementAndGet();
+		GetParametersResponse response = ssmClient
+			.getParameters((request) -> request.names(names).withDecryption(true));
+		if (response.hasInvalidParameters() && !response.invalidParameters().isEmpty()) {
+			throw new ConfigDataResourceNotFoundException(resource,
+					new IllegalStateException("Parameters not found: " + response.invalidParameters()));
+		}
+		Map<String, Object> properties = new LinkedHashMap<>();
+		for (Parameter parameter : response.parameters()) {
+			properties.put(parameter.name().substring(parameter.name().lastIndexOf('/') + 1), parameter.value());
+		}
+		return properties;
+	}
+
+}
@@ -0,0 +1,46 @@
+package com.example.parameterstore;
+
+import com.example.configdata.ConcurrentConfigDataLocationResolver;
+import io.awspring.cloud.autoconfigure.config.parameterstore.ParameterStoreProperties;
+import org.springframework.boot.bootstrap.BootstrapContext;
+import org.springframework.boot.context.config.ConfigDataLocationResolverContext;
+import org.springframework.boot.context.properties.bind.Binder;
+import software.amazon.awssdk.services.ssm.SsmClient;
+
+/**
+ * Resolves {@code aws-parameterstore-parallel:} imports such as
+ * {@code aws-parameterstore-parallel:/config/a/;/config/b/;/config/shared/name}. Entries
+ * ending with {@code /} are loaded recursively with {@code GetParametersByPath}, all
+ * other entries are single parameters fetched with {@code GetParameters}.
+ */
+public class ParallelParameterStoreConfigDataLocationResolver extends ConcurrentConfigDataLocationResolver {
+
+	public static final String PREFIX = "aws-parameterstore-parallel:";
+
+	public ParallelParameterStoreConfigDataLocationResolver() {
+		super("sample.parameters.bootstrap.concurrency", 16);
+	}
+
+	@Override
+	protected String getPrefix() {
+		return PREFIX;
+	}
+
+	@Override
+	protected void registerClient(ConfigDataLocationResolverContext resolverContext, Binder binder) {
+		registerBean(resolverContext, ParameterStoreProperties.class,
+				binder.bind(ParameterStoreProperties.CONFIG_PREFIX, ParameterStoreProperties.class)
+					.orElseGet(ParameterStoreProperties::new));
+		registerAndPromoteBean(resolverContext, SsmClient.class, this::createSsmClient);
+	}
+
+	@Override
+	protected boolean isGroup(String context) {
+		return context.endsWith("/");
+	}
+
+	private SsmClient createSsmClient(BootstrapContext context) {
+		return configure(SsmClient.builder(), context.get(ParameterStoreProperties.class), context).build();
+	}
+
+}
@@ -0,0 +1,164 @@
+package com.example.parameterstore;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.Parameter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Serves Parameter Store values from memory. All parameters directly below a path are
+ * loaded together with {@code GetParametersByPath}; once their TTL has passed the stale
+ * values keep being served while a single background refresh reloads the path. After a
+ * failed load or refresh the path is retried once {@code refresh-backoff} has passed, and
+ * until then lookups fall back to the previous values, if any. The least recently used
+ * paths are evicted beyond the maximum size.
+ */
+@Component
+public class ParameterCache implements DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(ParameterCache.class);
+
+	private final SsmClient ssmClient;
+
+	private final ParameterCacheProperties properties;
+
+	private final ExecutorService refreshExecutor = Executors.newFixedThreadPool(2);
+
+	private final LoadingCache<String, Entry> entries;
+
+	private final Counter hits;
+
+	private final Counter staleHits;
+
+	private final Counter misses;
+
+	private final Timer refreshes;
+
+	private final Timer failedRefreshes;
+
+	ParameterCache(SsmClient ssmClient, ParameterCacheProperties properties, MeterRegistry meterRegistry) {
+		this.ssmClient = ssmClient;
+		this.properties = properties;
+		this.hits = meterRegistry.counter("parameter.cache.requests", "result", "hit");
+		this.staleHits = meterRegistry.counter("parameter.cache.requests", "result", "stale");
+		this.misses = meterRegistry.counter("parameter.cache.requests", "result", "miss");
+		this.refreshes = meterRegistry.timer("parameter.cache.refresh", "outcome", "success");
+		this.failedRefreshes = meterRegistry.timer("parameter.cache.refresh", "outcome", "failure");
+		// Entries are checked as often as the shortest TTL, and keep their own expiry
+		this.entries = Caffeine.newBuilder()
+			.maximumSize(properties.maximumSize())
+			.refreshAfterWrite(properties.shortestTtl())
+			.executor(this.refreshExecutor)
+			.build(new EntryLoader());
+		meterRegistry.gauge("parameter.cache.paths", this.entries, LoadingCache::estimatedSize);
+	}
+
+	public Optional<String> get(String name) {
+		int separator = name.lastIndexOf('/');
+		if (!name.startsWith("/") || separator == name.length() - 1) {
+			throw new IllegalArgumentException("'" + name + "' is not a fully qualified parameter name");
+		}
+		String path = name.substring(0, separator + 1);
+		Entry entry = this.entries.getIfPresent(path);
+		if (entry == null) {
+			this.misses.increment();
+			entry = this.entries.get(path);
+		}
+		else if (entry.isExpired()) {
+			this.staleHits.increment();
+		}
+		else {
+			this.hits.increment();
+		}
+		return Optional.ofNullable(entry.values.get(name));
+	}
+
+	private Map<String, String> load(String path) {
+		long start = System.nanoTime();
+		try {
+			Map<String, String> values = this.ssmClient
+				.getParametersByPathPaginator((request) -> request.path(path).withDecryption(true))
+				.stream()
+				.flatMap((response) -> response.parameters().stream())
+				.collect(Collectors.toUnmodifiableMap(Parameter::name, Parameter::value));
+			this.refreshes.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			return values;
+		}
+		catch (RuntimeException ex) {
+			this.failedRefreshes.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			throw ex;
+		}
+	}
+
+	@Override
+	public void destroy() {
+		this.refreshExecutor.close();
+	}
+
+	private final class EntryLoader implements CacheLoader<String, Entry> {
+
+		// A failed load caches no values until the backoff has passed
+		@Override
+		public Entry load(String path) {
+			try {
+				return new Entry(ParameterCache.this.load(path), ParameterCache.this.properties.ttlFor(path));
+			}
+			catch (RuntimeException ex) {
+				Duration backoff = ParameterCache.this.properties.refreshBackoff();
+				logger.warn("Failed to load parameters below " + path + ", retrying in " + backoff, ex);
+				return new Entry(Map.of(), backoff);
+			}
+		}
+
+		// A failed refresh keeps serving the stale values until the backoff has passed
+		@Override
+		public Entry reload(String path, Entry stale) {
+			if (!stale.isExpired()) {
+				return stale;
+			}
+			try {
+				return new Entry(ParameterCache.this.load(path), ParameterCache.this.properties.ttlFor(path));
+			}
+			catch (RuntimeException ex) {
+				Duration backoff = ParameterCache.this.properties.refreshBackoff();
+				logger.warn("Failed to refresh parameters below " + path + ", serving stale values for " + backoff, ex);
+				return new Entry(stale.values, backoff);
+			}
+		}
+
+	}
+
+	private static final class Entry {
+
+		private final Map<String, String> values;
+
+		private final long expiresAt;
+
+		private Entry(Map<String, String> values, Duration ttl) {
+			this.values = values;
+			this.expiresAt = System.nanoTime() + ttl.toNanos();
+		}
+
+		private boolean isExpired() {
+			return System.nanoTime() - this.expiresAt > 0;
+		}
+
+	}
+
+}
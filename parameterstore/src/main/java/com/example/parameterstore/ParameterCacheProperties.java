@@ -0,0 +1,39 @@
+package com.example.parameterstore;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Time to live of the {@link ParameterCache} entries, either the default or per parameter
+ * path (for example {@code sample.parameters.cache.ttl[/spring/config/]=10s}), the delay
+ * before a path whose load failed is tried again, and the number of paths kept.
+ */
+@ConfigurationProperties("sample.parameters.cache")
+public record ParameterCacheProperties(@DefaultValue("30s") Duration defaultTtl, Map<String, Duration> ttl,
+		@DefaultValue("5s") Duration refreshBackoff, @DefaultValue("1000") int maximumSize) {
+
+	public ParameterCacheProperties {
+		ttl = (ttl != null) ? Map.copyOf(ttl) : Map.of();
+	}
+
+	Duration ttlFor(String path) {
+		return this.ttl.getOrDefault(path, this.defaultTtl);
+	}
+
+	/**
+	 * The shortest of all TTLs and the backoff, which is how often an entry is checked
+	 * for expiry.
+	 */
+	Duration shortestTtl() {
+		Duration shortest = (this.defaultTtl.compareTo(this.refreshBackoff) < 0) ? this.defaultTtl
+				: this.refreshBackoff;
+		for (Duration ttl : this.ttl.values()) {
+			shortest = (ttl.compareTo(shortest) < 0) ? ttl : shortest;
+		}
+		return shortest;
+	}
+
+}
@@ -0,0 +1,52 @@
+package com.example.parameterstore;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Published by the {@link ParameterStoreReloader} after it applied changed parameters to
+ * the environment. Changes are keyed by property name; added parameters have no previous
+ * value and deleted ones no new value.
+ */
+public class ParameterChangeEvent extends ApplicationEvent {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String path;
+
+	private final Map<String, Change> changes;
+
+	private final ReloadStatistics statistics;
+
+	public ParameterChangeEvent(Object source, String path, Map<String, Change> changes, ReloadStatistics statistics) {
+		super(source);
+		this.path = path;
+		this.changes = Map.copyOf(changes);
+		this.statistics = statistics;
+	}
+
+	public String getPath() {
+		return this.path;
+	}
+
+	public Map<String, Change> getChanges() {
+		return this.changes;
+	}
+
+	public ReloadStatistics getStatistics() {
+		return this.statistics;
+	}
+
+	public record Change(String previousValue, String value) implements Serializable {
+
+	}
+
+	public record ReloadStatistics(int describeParametersCalls, int getParametersCalls,
+			Duration duration) implements Serializable {
+
+	}
+
+}
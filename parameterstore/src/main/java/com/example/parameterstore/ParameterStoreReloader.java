@@ -0,0 +1,149 @@
+package com.example.parameterstore;
+
+import com.example.parameterstore.ParameterChangeEvent.Change;
+import com.example.parameterstore.ParameterChangeEvent.ReloadStatistics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.cloud.context.scope.refresh.RefreshScope;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.DescribeParametersResponse;
+import software.amazon.awssdk.services.ssm.model.GetParametersResponse;
+import software.amazon.awssdk.services.ssm.model.Parameter;
+import software.amazon.awssdk.services.ssm.paginators.DescribeParametersIterable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Polls the parameters directly below {@code sample.parameters.reload.path} and applies
+ * changes without restarting the context. Every cycle lists the parameter versions with
+ * {@code DescribeParameters}, which does not return values, and only fetches the changed
+ * parameters with {@code GetParameters}. The values are exposed through a property source
+ * that takes precedence over the one loaded by {@code spring.config.import}, after which
+ * {@code @ConfigurationProperties} beans are rebound and {@code @RefreshScope} beans are
+ * recreated. Deleted parameters are reported in the {@link ParameterChangeEvent} but fall
+ * back to the value loaded at startup until the next restart.
+ */
+@Component
+public class ParameterStoreReloader {
+
+	private static final int MAX_NAMES_PER_GET_PARAMETERS = 10;
+
+	private final SsmClient ssmClient;
+
+	private final ConfigurableEnvironment environment;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final ObjectProvider<RefreshScope> refreshScope;
+
+	private final String path;
+
+	private final Map<String, Long> versions = new HashMap<>();
+
+	private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+	private boolean initialized;
+
+	private final Counter describeParametersCalls;
+
+	private final Counter getParametersCalls;
+
+	private final Timer reloads;
+
+	ParameterStoreReloader(SsmClient ssmClient, ConfigurableEnvironment environment,
+			ApplicationEventPublisher eventPublisher, ObjectProvider<RefreshScope> refreshScope,
+			MeterRegistry meterRegistry, @Value("${sample.parameters.reload.path:/spring/config/}") String path) {
+		this.ssmClient = ssmClient;
+		this.environment = environment;
+		this.eventPublisher = eventPublisher;
+		this.refreshScope = refreshScope;
+		this.path = path;
+		this.describeParametersCalls = meterRegistry.counter("parameter.reload.calls", "operation",
+				"DescribeParameters");
+		this.getParametersCalls = meterRegistry.counter("parameter.reload.calls", "operation", "GetParameters");
+		this.reloads = meterRegistry.timer("parameter.reload");
+		this.environment.getPropertySources()
+			.addFirst(new MapPropertySource("aws-parameterstore-reload:" + path, this.values));
+	}
+
+	@Scheduled(fixedDelayString = "${sample.parameters.reload.interval:30s}")
+	public synchronized void reload() {
+		long start = System.nanoTime();
+		boolean initial = !this.initialized;
+
+		int describeCalls = 0;
+		Map<String, Long> current = new HashMap<>();
+		DescribeParametersIterable pages = this.ssmClient.describeParametersPaginator((request) -> request
+			.parameterFilters((filter) -> filter.key("Path").option("OneLevel").values(this.path)));
+		for (DescribeParametersResponse page : pages) {
+			describeCalls++;
+			page.parameters().forEach((metadata) -> current.put(metadata.name(), metadata.version()));
+		}
+
+		List<String> changedNames = current.entrySet()
+			.stream()
+			.filter((entry) -> !Objects.equals(this.versions.get(entry.getKey()), entry.getValue()))
+			.map(Map.Entry::getKey)
+			.toList();
+		Set<String> deletedNames = new HashSet<>(this.versions.keySet());
+		deletedNames.removeAll(current.keySet());
+
+		int getCalls = 0;
+		Map<String, Change> changes = new HashMap<>();
+		for (int from = 0; from < changedNames.size(); from += MAX_NAMES_PER_GET_PARAMETERS) {
+			List<String> names = changedNames.subList(from,
+					Math.min(from + MAX_NAMES_PER_GET_PARAMETERS, changedNames.size()));
+			getCalls++;
+			GetParametersResponse response = this.ssmClient
+				.getParameters((request) -> request.names(names).withDecryption(true));
+			for (Parameter parameter : response.parameters()) {
+				String key = propertyName(parameter.name());
+				Object previous = this.values.put(key, parameter.value());
+				this.versions.put(parameter.name(), parameter.version());
+				if (!parameter.value().equals(previous)) {
+					changes.put(key, new Change((String) previous, parameter.value()));
+				}
+			}
+		}
+		for (String name : deletedNames) {
+			String key = propertyName(name);
+			this.versions.remove(name);
+			changes.put(key, new Change((String) this.values.remove(key), null));
+		}
+
+		Duration duration = Duration.ofNanos(System.nanoTime() - start);
+		this.describeParametersCalls.increment(describeCalls);
+		this.getParametersCalls.increment(getCalls);
+		this.reloads.record(duration);
+		this.initialized = true;
+		if (initial || changes.isEmpty()) {
+			return;
+		}
+		this.eventPublisher.publishEvent(new ParameterChangeEvent(this, this.path, changes,
+				new ReloadStatistics(describeCalls, getCalls, duration)));
+		this.eventPublisher.publishEvent(new EnvironmentChangeEvent(this, changes.keySet()));
+		this.refreshScope.ifAvailable(RefreshScope::refreshAll);
+	}
+
+	private String propertyName(String parameterName) {
+		return parameterName.substring(this.path.length());
+	}
+
+}
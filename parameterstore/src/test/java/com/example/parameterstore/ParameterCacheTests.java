@@ -0,0 +1,115 @@
+package com.example.parameterstore;
+
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.RestAssured;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.hamcrest.Matchers.equalTo;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT,
+		properties = "sample.parameters.cache.ttl[/spring/config/]=1s")
+@ContextConfiguration(initializers = ConfigDataApplicationContextInitializer.class)
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources("ssm")
+class ParameterCacheTests {
+
+	private static final Log logger = LogFactory.getLog(ParameterCacheTests.class);
+
+	private static LocalStackNamespace localstack = LocalStackNamespace.forClass(ParameterCacheTests.class);
+
+	@LocalServerPort
+	private int localPort;
+
+	@Autowired
+	private ParameterCache parameterCache;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		localstack.registerProperties(registry);
+		registry.add("spring.cloud.aws.parameterstore.endpoint", () -> localstack.getEndpoint().toString());
+		registry.add("spring.cloud.aws.parameterstore.region", localstack::getRegion);
+		registry.add("spring.config.import", () -> "aws-parameterstore:/spring/config/");
+	}
+
+	@BeforeAll
+	static void beforeAll() throws IOException, InterruptedException {
+		putParameter("/spring/config/text", "Hello World");
+		putParameter("/spring/config/farewell", "Goodbye");
+	}
+
+	@Test
+	void servesFromMemoryAndRefreshesInBackground() throws Exception {
+		for (int i = 0; i < 1_000; i++) {
+			assertThat(this.parameterCache.get("/spring/config/text")).hasValue("Hello World");
+			assertThat(this.parameterCache.get("/spring/config/farewell")).hasValue("Goodbye");
+		}
+		assertThat(this.parameterCache.get("/spring/config/missing")).isEmpty();
+		assertThat(refreshCount()).isLessThanOrEqualTo(2);
+
+		putParameter("/spring/config/text", "Hello Cache");
+		Awaitility.waitAtMost(Duration.ofSeconds(30))
+			.pollInterval(Duration.ofMillis(10))
+			.untilAsserted(() -> RestAssured.given()
+				.port(this.localPort)
+				.get("/greetings")
+				.then()
+				.assertThat()
+				.body(equalTo("Hello Cache")));
+
+		double requests = this.meterRegistry.get("parameter.cache.requests")
+			.counters()
+			.stream()
+			.mapToDouble(Counter::count)
+			.sum();
+		logger.info(
+				"Parameter cache: %.0f lookups, %d refreshes, mean refresh %.1f ms".formatted(requests, refreshCount(),
+						this.meterRegistry.get("parameter.cache.refresh")
+							.tag("outcome", "success")
+							.timer()
+							.mean(TimeUnit.MILLISECONDS)));
+		assertThat(refreshCount()).isLessThan((long) requests / 10);
+		assertThat(this.meterRegistry.get("parameter.cache.requests").tag("result", "stale").counter().count())
+			.isPositive();
+	}
+
+	@Test
+	void rejectsNamesWithoutPath() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.parameterCache.get("text"));
+		assertThatIllegalArgumentException().isThrownBy(() -> this.parameterCache.get("/spring/config/"));
+	}
+
+	private long refreshCount() {
+		return this.meterRegistry.get("parameter.cache.refresh").tag("outcome", "success").timer().count();
+	}
+
+	private static void putParameter(String name, String value) throws IOException, InterruptedException {
+		localstack.awslocal("ssm", "put-parameter", "--name", name, "--value", value, "--type", "String", "--overwrite",
+				"--region", localstack.getRegion());
+	}
+
+}
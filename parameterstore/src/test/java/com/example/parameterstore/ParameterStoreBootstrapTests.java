@@ -0,0 +1,124 @@
+package com.example.parameterstore;
+
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
+import com.example.localstack.StartupComparison;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.ParameterType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources(value = "ssm", exclusive = true)
+class ParameterStoreBootstrapTests {
+
+	private static final Log logger = LogFactory.getLog(ParameterStoreBootstrapTests.class);
+
+	private static final int PATHS = 10;
+
+	private static final int PARAMETERS = Integer.getInteger("parameterstore.bootstrap.parameters", 5_000);
+
+	private static final int NAMES = 40;
+
+	private static final int RUNS = 3;
+
+	private static LocalStackNamespace localstack = LocalStackNamespace.forClass(ParameterStoreBootstrapTests.class);
+
+	private static final String PATH_LIST = IntStream.range(0, PATHS)
+		.mapToObj("/bootstrap/service-%02d/"::formatted)
+		.collect(Collectors.joining(";"));
+
+	private static final String NAME_LIST = IntStream.range(0, NAMES)
+		.mapToObj("/bootstrap/shared/name%02d"::formatted)
+		.collect(Collectors.joining(";"));
+
+	@BeforeAll
+	static void beforeAll() throws Exception {
+		try (SsmClient ssmClient = SsmClient.builder()
+			.region(Region.of(localstack.getRegion()))
+			.credentialsProvider(StaticCredentialsProvider
+				.create(AwsBasicCredentials.create(localstack.getAccessKey(), localstack.getSecretKey())))
+			.endpointOverride(localstack.getEndpoint())
+			.build(); ExecutorService executor = Executors.newFixedThreadPool(32)) {
+			List<Future<?>> puts = new ArrayList<>();
+			for (int i = 0; i < PARAMETERS; i++) {
+				String name = "/bootstrap/service-%02d/key%05d".formatted(i % PATHS, i);
+				puts.add(executor.submit(() -> putParameter(ssmClient, name, name)));
+			}
+			for (int i = 0; i < NAMES; i++) {
+				String name = "/bootstrap/shared/name%02d".formatted(i);
+				puts.add(executor.submit(() -> putParameter(ssmClient, name, name)));
+			}
+			for (Future<?> put : puts) {
+				put.get();
+			}
+		}
+	}
+
+	// Both imports load the same parameters, the shared ones through their path
+	@Test
+	void parallelLoaderStartsFasterThanSequentialImport() {
+		String locations = PATH_LIST + ";/bootstrap/shared/";
+		StartupComparison comparison = StartupComparison.run(RUNS, () -> start("aws-parameterstore:" + locations),
+				() -> start("aws-parameterstore-parallel:" + locations));
+		logger.info("Startup with %d parameters across %d paths, sequential vs parallel: %s"
+			.formatted(PARAMETERS + NAMES, PATHS + 1, comparison));
+		assertThat(comparison.bestCandidate()).isLessThan(comparison.bestBaseline());
+	}
+
+	@Test
+	void parallelLoaderLoadsIndividualNames() {
+		start("aws-parameterstore-parallel:" + PATH_LIST + ";" + NAME_LIST);
+	}
+
+	private Duration start(String configImport) {
+		Map<String, Object> properties = new HashMap<>();
+		localstack.registerProperties((name, value) -> properties.put(name, value.get()));
+		properties.put("spring.cloud.aws.parameterstore.endpoint", localstack.getEndpoint().toString());
+		properties.put("spring.cloud.aws.parameterstore.region", localstack.getRegion());
+		properties.put("spring.config.import", configImport);
+		properties.put("text", "Hello World");
+		long start = System.nanoTime();
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ParameterstoreApplication.class)
+			.web(WebApplicationType.NONE)
+			.properties(properties)
+			.run()) {
+			Duration duration = Duration.ofNanos(System.nanoTime() - start);
+			Environment environment = context.getEnvironment();
+			assertThat(environment.getProperty("key00000")).isEqualTo("/bootstrap/service-00/key00000");
+			assertThat(environment.getProperty("key%05d".formatted(PARAMETERS - 1)))
+				.isEqualTo("/bootstrap/service-%02d/key%05d".formatted((PARAMETERS - 1) % PATHS, PARAMETERS - 1));
+			assertThat(environment.getProperty("name%02d".formatted(NAMES - 1)))
+				.isEqualTo("/bootstrap/shared/name%02d".formatted(NAMES - 1));
+			return duration;
+		}
+	}
+
+	private static void putParameter(SsmClient ssmClient, String name, String value) {
+		ssmClient.putParameter((request) -> request.name(name).value(value).type(ParameterType.STRING).overwrite(true));
+	}
+
+}
@@ -0,0 +1,141 @@
+package com.example.parameterstore;
+
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.ParameterType;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "sample.parameters.reload.interval=500ms")
+@ContextConfiguration(initializers = ConfigDataApplicationContextInitializer.class)
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources("ssm")
+class ParameterStoreReloaderTests {
+
+	private static final Log logger = LogFactory.getLog(ParameterStoreReloaderTests.class);
+
+	private static final int PARAMETERS = 100;
+
+	private static final int CHANGED = 40;
+
+	private static LocalStackNamespace localstack = LocalStackNamespace.forClass(ParameterStoreReloaderTests.class);
+
+	@Autowired
+	private SsmClient ssmClient;
+
+	@Autowired
+	private GreetingProperties greetingProperties;
+
+	@Autowired
+	private GreetingController greetingController;
+
+	@Autowired
+	private ChangeEvents changeEvents;
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		localstack.registerProperties(registry);
+		registry.add("spring.cloud.aws.parameterstore.endpoint", () -> localstack.getEndpoint().toString());
+		registry.add("spring.cloud.aws.parameterstore.region", localstack::getRegion);
+		registry.add("spring.config.import", () -> "aws-parameterstore:/spring/config/");
+	}
+
+	@BeforeAll
+	static void beforeAll() throws IOException, InterruptedException {
+		localstack.awslocal("ssm", "put-parameter", "--name", "/spring/config/text", "--value", "Hello World", "--type",
+				"String", "--region", localstack.getRegion());
+		for (int i = 0; i < PARAMETERS; i++) {
+			localstack.awslocal("ssm", "put-parameter", "--name",
+					"/spring/config/greeting.messages.lang%03d".formatted(i), "--value", "Hello %d".formatted(i),
+					"--type", "String", "--region", localstack.getRegion());
+		}
+	}
+
+	@Test
+	void reloadsOnlyChangedParameters() {
+		assertThat(this.greetingProperties.getMessages()).hasSize(PARAMETERS).containsEntry("lang000", "Hello 0");
+		assertThat(this.greetingController.greeting("lang000")).isEqualTo("Hello 0");
+
+		IntStream.range(0, CHANGED)
+			.forEach((i) -> putParameter("greeting.messages.lang%03d".formatted(i), "Hi %d".formatted(i)));
+		putParameter("text", "Hello Reload");
+		long updated = System.nanoTime();
+
+		Awaitility.waitAtMost(Duration.ofSeconds(30))
+			.pollInterval(Duration.ofMillis(10))
+			.until(() -> this.changeEvents.changedKeys() == CHANGED + 1);
+		Duration latency = Duration.ofNanos(this.changeEvents.lastReceived - updated);
+
+		assertThat(this.greetingProperties.getMessages()).containsEntry("lang000", "Hi 0")
+			.containsEntry("lang099", "Hello 99");
+		assertThat(this.greetingController.greeting("lang001")).isEqualTo("Hi 1");
+		assertThat(this.greetingController.greeting("unknown")).isEqualTo("Hello Reload");
+
+		for (ParameterChangeEvent event : this.changeEvents.events) {
+			var statistics = event.getStatistics();
+			logger.info("Reload cycle: %d changes, %d DescribeParameters and %d GetParameters calls in %d ms".formatted(
+					event.getChanges().size(), statistics.describeParametersCalls(), statistics.getParametersCalls(),
+					statistics.duration().toMillis()));
+			assertThat(statistics.getParametersCalls()).isEqualTo((event.getChanges().size() + 9) / 10);
+		}
+		logger.info("Reload latency for %d changed parameters: %d ms".formatted(CHANGED + 1, latency.toMillis()));
+	}
+
+	private void putParameter(String name, String value) {
+		this.ssmClient.putParameter((request) -> request.name("/spring/config/" + name)
+			.value(value)
+			.type(ParameterType.STRING)
+			.overwrite(true));
+	}
+
+	@TestConfiguration(proxyBeanMethods = false)
+	static class TestConfig {
+
+		@Bean
+		ChangeEvents changeEvents() {
+			return new ChangeEvents();
+		}
+
+	}
+
+	static class ChangeEvents {
+
+		private final List<ParameterChangeEvent> events = new CopyOnWriteArrayList<>();
+
+		private volatile long lastReceived;
+
+		@EventListener
+		void onChange(ParameterChangeEvent event) {
+			this.events.add(event);
+			this.lastReceived = System.nanoTime();
+		}
+
+		int changedKeys() {
+			return this.events.stream().mapToInt((event) -> event.getChanges().size()).sum();
+		}
+
+	}
+
+}
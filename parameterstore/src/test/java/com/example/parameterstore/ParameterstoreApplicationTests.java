@@ -1,5 +1,7 @@
 package com.example.parameterstore;
 
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
 import io.restassured.RestAssured;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -11,44 +13,34 @@ import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
-import org.testcontainers.localstack.LocalStackContainer;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
-import org.testcontainers.utility.DockerImageName;
 
 import java.io.IOException;
 
 import static org.hamcrest.Matchers.equalTo;
 
-@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT,
-		properties = { "spring.cloud.aws.credentials.access-key=noop", "spring.cloud.aws.credentials.secret-key=noop",
-				"spring.cloud.aws.region.static=us-east-1" })
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
 @ContextConfiguration(initializers = ConfigDataApplicationContextInitializer.class)
-@Testcontainers
 @EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources("ssm")
 class ParameterstoreApplicationTests {
 
 	@LocalServerPort
 	private int localPort;
 
-	@Container
-	private static LocalStackContainer localstack = new LocalStackContainer(
-			DockerImageName.parse("localstack/localstack:2026.06.0"))
-		.withEnv("LOCALSTACK_AUTH_TOKEN", System.getenv("LOCALSTACK_AUTH_TOKEN"));
+	private static LocalStackNamespace localstack = LocalStackNamespace.forClass(ParameterstoreApplicationTests.class);
 
 	@DynamicPropertySource
 	static void properties(DynamicPropertyRegistry registry) {
+		localstack.registerProperties(registry);
 		registry.add("spring.cloud.aws.parameterstore.endpoint", () -> localstack.getEndpoint().toString());
 		registry.add("spring.cloud.aws.parameterstore.region", localstack::getRegion);
-		registry.add("spring.cloud.aws.endpoint", () -> localstack.getEndpoint().toString());
-		registry.add("spring.cloud.aws.region.static", localstack::getRegion);
 		registry.add("spring.config.import", () -> "aws-parameterstore:/spring/config/");
 	}
 
 	@BeforeAll
 	static void beforeAll() throws IOException, InterruptedException {
-		localstack.execInContainer("awslocal", "ssm", "put-parameter", "--name", "/spring/config/text", "--value",
-				"Hello World", "--type", "String", "--region", localstack.getRegion());
+		localstack.awslocal("ssm", "put-parameter", "--name", "/spring/config/text", "--value", "Hello World", "--type",
+				"String", "--region", localstack.getRegion());
 	}
 
 	@Test
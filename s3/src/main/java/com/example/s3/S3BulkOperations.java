@@ -0,0 +1,123 @@
+package com.example.s3;
+
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Lists and deletes every object below a prefix. The keys directly under the prefix are
+ * split on {@code /} and each resulting sub-prefix is scanned with its own
+ * {@code ListObjectsV2} paginator, at most {@code sample.s3.bulk.concurrency} at a time.
+ * A page holds at most 1000 keys, which is also the {@code DeleteObjects} limit, so
+ * deletion removes each page with a single request.
+ */
+@Service
+public class S3BulkOperations {
+
+	private static final String DELIMITER = "/";
+
+	private final S3Client s3Client;
+
+	private final int concurrency;
+
+	S3BulkOperations(S3Client s3Client, S3BulkProperties properties) {
+		this.s3Client = s3Client;
+		this.concurrency = properties.concurrency();
+	}
+
+	/**
+	 * Calls the consumer for every object below the prefix. The consumer is invoked
+	 * concurrently from several threads.
+	 * @return the number of objects listed
+	 */
+	public long list(String bucket, String prefix, Consumer<S3Object> consumer) {
+		return forEachPage(bucket, prefix, (page) -> page.forEach(consumer));
+	}
+
+	public long count(String bucket, String prefix) {
+		return forEachPage(bucket, prefix, (page) -> {
+		});
+	}
+
+	/**
+	 * Deletes every object below the prefix.
+	 * @return the number of objects deleted
+	 */
+	public long deleteAll(String bucket, String prefix) {
+		return forEachPage(bucket, prefix, (page) -> {
+			if (page.isEmpty()) {
+				return;
+			}
+			List<ObjectIdentifier> identifiers = page.stream()
+				.map((object) -> ObjectIdentifier.builder().key(object.key()).build())
+				.toList();
+			DeleteObjectsResponse response = this.s3Client.deleteObjects(
+					(request) -> request.bucket(bucket).delete((delete) -> delete.objects(identifiers).quiet(true)));
+			if (response.hasErrors() && !response.errors().isEmpty()) {
+				S3Error error = response.errors().getFirst();
+				throw new IllegalStateException("Failed to delete %d objects from %s, first was %s: %s"
+					.formatted(response.errors().size(), bucket, error.key(), error.message()));
+			}
+		});
+	}
+
+	private long forEachPage(String bucket, String prefix, Consumer<List<S3Object>> pageConsumer) {
+		List<String> prefixes = new ArrayList<>();
+		long count = 0;
+		for (ListObjectsV2Response page : this.s3Client
+			.listObjectsV2Paginator((request) -> request.bucket(bucket).prefix(prefix).delimiter(DELIMITER))) {
+			pageConsumer.accept(page.contents());
+			count += page.contents().size();
+			page.commonPrefixes().stream().map(CommonPrefix::prefix).forEach(prefixes::add);
+		}
+		try (ExecutorService executor = Executors.newFixedThreadPool(this.concurrency)) {
+			List<Future<Long>> scans = prefixes.stream()
+				.map((subPrefix) -> executor.submit(() -> scan(bucket, subPrefix, pageConsumer)))
+				.toList();
+			for (Future<Long> scan : scans) {
+				count += getResult(scan);
+			}
+		}
+		return count;
+	}
+
+	private long scan(String bucket, String prefix, Consumer<List<S3Object>> pageConsumer) {
+		long count = 0;
+		for (ListObjectsV2Response page : this.s3Client
+			.listObjectsV2Paginator((request) -> request.bucket(bucket).prefix(prefix))) {
+			pageConsumer.accept(page.contents());
+			count += page.contents().size();
+		}
+		return count;
+	}
+
+	private static long getResult(Future<Long> scan) {
+		try {
+			return scan.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while scanning", ex);
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(ex.getCause());
+		}
+	}
+
+}
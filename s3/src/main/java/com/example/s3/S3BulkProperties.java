@@ -0,0 +1,13 @@
+package com.example.s3;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Tuning of {@link S3BulkOperations}: the number of sub-prefixes that are listed or
+ * deleted at the same time.
+ */
+@ConfigurationProperties("sample.s3.bulk")
+public record S3BulkProperties(@DefaultValue("16") int concurrency) {
+
+}
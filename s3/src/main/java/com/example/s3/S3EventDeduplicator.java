@@ -0,0 +1,45 @@
+package com.example.s3;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers the sequencer of the last claimed event of the most recently seen keys, so
+ * that redelivered and out-of-order notifications can be dropped.
+ */
+class S3EventDeduplicator {
+
+	private final Map<String, S3ObjectEvent> processed;
+
+	S3EventDeduplicator(int capacity) {
+		this.processed = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, S3ObjectEvent> eldest) {
+				return size() > capacity;
+			}
+
+		};
+	}
+
+	/**
+	 * Claim an event for processing. Only one of several concurrent deliveries of the
+	 * same or an older event gets {@code true}.
+	 */
+	synchronized boolean claim(S3ObjectEvent event) {
+		S3ObjectEvent previous = this.processed.get(event.location());
+		if (previous != null && !event.isAfter(previous)) {
+			return false;
+		}
+		this.processed.put(event.location(), event);
+		return true;
+	}
+
+	/**
+	 * Give up the claim on an event that failed, so that its redelivery is processed.
+	 */
+	synchronized void release(S3ObjectEvent event) {
+		this.processed.remove(event.location(), event);
+	}
+
+}
@@ -0,0 +1,97 @@
+package com.example.s3;
+
+import io.awspring.cloud.sqs.annotation.SqsListener;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.eventnotifications.s3.model.S3EventNotification;
+import software.amazon.awssdk.eventnotifications.s3.model.S3EventNotificationRecord;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Consumes S3 event notifications in batches and hands every newly created object to the
+ * {@link S3ObjectProcessor}. Objects are fetched on a pool of {@code fetch-concurrency}
+ * threads and a batch is only acknowledged once all of its objects are processed, so the
+ * container stops polling when fetching falls behind.
+ */
+@Component
+class S3EventIngestionListener implements DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(S3EventIngestionListener.class);
+
+	private final S3Client s3Client;
+
+	private final S3ObjectProcessor processor;
+
+	private final S3EventDeduplicator deduplicator;
+
+	private final ExecutorService fetchExecutor;
+
+	S3EventIngestionListener(S3Client s3Client, S3IngestionProperties properties,
+			ObjectProvider<S3ObjectProcessor> processor) {
+		this.s3Client = s3Client;
+		this.processor = processor.getIfAvailable(() -> (event, content) -> {
+			long bytes = content.transferTo(OutputStream.nullOutputStream());
+			logger.info("Ingested %s (%d bytes)".formatted(event.location(), bytes));
+		});
+		this.deduplicator = new S3EventDeduplicator(properties.deduplicationCapacity());
+		this.fetchExecutor = Executors.newFixedThreadPool(properties.fetchConcurrency());
+	}
+
+	@SqsListener(value = "${sample.s3.ingestion.queue:s3-ingestion-queue}",
+			maxConcurrentMessages = "${sample.s3.ingestion.max-concurrent-messages:100}", maxMessagesPerPoll = "10")
+	void ingest(List<String> notifications) {
+		Map<String, S3ObjectEvent> latest = new LinkedHashMap<>();
+		for (String notification : notifications) {
+			List<S3EventNotificationRecord> records = S3EventNotification.fromJson(notification).getRecords();
+			if (records == null) {
+				continue;
+			}
+			records.stream()
+				.filter((record) -> record.getEventName().startsWith("ObjectCreated:"))
+				.map(S3ObjectEvent::from)
+				.forEach((event) -> latest.merge(event.location(), event,
+						(previous, current) -> current.isAfter(previous) ? current : previous));
+		}
+		CompletableFuture<?>[] fetches = latest.values()
+			.stream()
+			.filter(this.deduplicator::claim)
+			.map((event) -> CompletableFuture.runAsync(() -> fetchAndProcess(event), this.fetchExecutor))
+			.toArray(CompletableFuture[]::new);
+		CompletableFuture.allOf(fetches).join();
+	}
+
+	private void fetchAndProcess(S3ObjectEvent event) {
+		try (InputStream content = this.s3Client
+			.getObject((request) -> request.bucket(event.bucket()).key(event.key()))) {
+			this.processor.process(event, content);
+		}
+		catch (IOException ex) {
+			this.deduplicator.release(event);
+			throw new UncheckedIOException(ex);
+		}
+		catch (RuntimeException ex) {
+			this.deduplicator.release(event);
+			throw ex;
+		}
+	}
+
+	@Override
+	public void destroy() {
+		this.fetchExecutor.close();
+	}
+
+}
@@ -0,0 +1,16 @@
+package com.example.s3;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Tuning of the S3 event ingestion pipeline. The queue
+ * ({@code sample.s3.ingestion.queue}, default {@code s3-ingestion-queue}) and the number
+ * of in-flight notifications ({@code sample.s3.ingestion.max-concurrent-messages},
+ * default {@code 100}) are resolved by the listener annotation itself.
+ */
+@ConfigurationProperties("sample.s3.ingestion")
+public record S3IngestionProperties(@DefaultValue("16") int fetchConcurrency,
+		@DefaultValue("100000") int deduplicationCapacity) {
+
+}
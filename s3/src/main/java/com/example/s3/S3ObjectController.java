@@ -0,0 +1,136 @@
+package com.example.s3;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * Streams S3 objects to the client through a fixed size copy buffer. A single
+ * {@code Range} is forwarded to S3, so only the requested bytes are fetched; requests
+ * with several ranges get the whole object, as RFC 9110 allows. Keys may contain
+ * {@code /}, and {@code HEAD} requests only fetch the object metadata.
+ */
+@RestController
+class S3ObjectController {
+
+	private static final String OBJECT_PATH = "/buckets/{bucket}/objects/{*key}";
+
+	private final S3Client s3Client;
+
+	S3ObjectController(S3Client s3Client) {
+		this.s3Client = s3Client;
+	}
+
+	@GetMapping(OBJECT_PATH)
+	ResponseEntity<StreamingResponseBody> download(@PathVariable String bucket, @PathVariable("key") String path,
+			@RequestHeader(name = HttpHeaders.RANGE, required = false) String range) {
+		GetObjectRequest.Builder request = GetObjectRequest.builder().bucket(bucket).key(key(path));
+		boolean partial = isSingleRange(range);
+		if (partial) {
+			request.range(range);
+		}
+		ResponseInputStream<GetObjectResponse> object = call(() -> this.s3Client.getObject(request.build()));
+		GetObjectResponse response = object.response();
+		return headers(partial, response.eTag(), response.contentLength(), response.contentType(),
+				response.lastModified(), response.contentRange())
+			.body((outputStream) -> {
+				try (InputStream inputStream = object) {
+					inputStream.transferTo(outputStream);
+				}
+			});
+	}
+
+	@RequestMapping(path = OBJECT_PATH, method = RequestMethod.HEAD)
+	ResponseEntity<Void> head(@PathVariable String bucket, @PathVariable("key") String path,
+			@RequestHeader(name = HttpHeaders.RANGE, required = false) String range) {
+		HeadObjectRequest.Builder request = HeadObjectRequest.builder().bucket(bucket).key(key(path));
+		boolean partial = isSingleRange(range);
+		if (partial) {
+			request.range(range);
+		}
+		HeadObjectResponse response = call(() -> this.s3Client.headObject(request.build()));
+		return headers(partial, response.eTag(), response.contentLength(), response.contentType(),
+				response.lastModified(), response.contentRange())
+			.build();
+	}
+
+	private static ResponseEntity.BodyBuilder headers(boolean partial, String eTag, Long contentLength,
+			String contentType, Instant lastModified, String contentRange) {
+		ResponseEntity.BodyBuilder builder = ResponseEntity.status(partial ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+			.header(HttpHeaders.ACCEPT_RANGES, "bytes")
+			.eTag(eTag)
+			.contentLength(contentLength)
+			.contentType(
+					(contentType != null) ? MediaType.parseMediaType(contentType) : MediaType.APPLICATION_OCTET_STREAM);
+		if (lastModified != null) {
+			builder.lastModified(lastModified);
+		}
+		if (partial) {
+			builder.header(HttpHeaders.CONTENT_RANGE, contentRange);
+		}
+		return builder;
+	}
+
+	private static <T> T call(Supplier<T> request) {
+		try {
+			return request.get();
+		}
+		catch (NoSuchBucketException | NoSuchKeyException ex) {
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, null, ex);
+		}
+		catch (S3Exception ex) {
+			if (ex.statusCode() == HttpStatus.NOT_FOUND.value()) {
+				throw new ResponseStatusException(HttpStatus.NOT_FOUND, null, ex);
+			}
+			if (ex.statusCode() == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value()) {
+				throw new ResponseStatusException(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, null, ex);
+			}
+			throw ex;
+		}
+	}
+
+	// The catch-all segment includes the leading slash
+	private static String key(String path) {
+		String key = path.substring(1);
+		if (key.isEmpty()) {
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+		}
+		return key;
+	}
+
+	private static boolean isSingleRange(String range) {
+		if (range == null) {
+			return false;
+		}
+		try {
+			return HttpRange.parseRanges(range).size() == 1;
+		}
+		catch (IllegalArgumentException ex) {
+			throw new ResponseStatusException(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, ex.getMessage(), ex);
+		}
+	}
+
+}
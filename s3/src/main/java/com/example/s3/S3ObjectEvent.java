@@ -0,0 +1,40 @@
+package com.example.s3;
+
+import software.amazon.awssdk.eventnotifications.s3.model.S3EventNotificationRecord;
+
+import java.time.Instant;
+
+/**
+ * An object creation taken from an S3 event notification.
+ */
+public record S3ObjectEvent(String bucket, String key, String eTag, long size, String sequencer, Instant eventTime) {
+
+	static S3ObjectEvent from(S3EventNotificationRecord record) {
+		var s3 = record.getS3();
+		return new S3ObjectEvent(s3.getBucket().getName(), s3.getObject().getUrlDecodedKey(), s3.getObject().getETag(),
+				s3.getObject().getSizeAsLong(), s3.getObject().getSequencer(), record.getEventTime());
+	}
+
+	String location() {
+		return this.bucket + "/" + this.key;
+	}
+
+	/**
+	 * Whether this event happened after the other one for the same key. Sequencers are
+	 * hexadecimal strings of varying length that compare correctly once the shorter one
+	 * is right-padded with zeros.
+	 */
+	boolean isAfter(S3ObjectEvent other) {
+		return compareSequencers(this.sequencer, other.sequencer) > 0;
+	}
+
+	static int compareSequencers(String left, String right) {
+		int length = Math.max(left.length(), right.length());
+		return pad(left, length).compareToIgnoreCase(pad(right, length));
+	}
+
+	private static String pad(String sequencer, int length) {
+		return sequencer + "0".repeat(length - sequencer.length());
+	}
+
+}
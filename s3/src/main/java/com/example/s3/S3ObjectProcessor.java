@@ -0,0 +1,16 @@
+package com.example.s3;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Final stage of the S3 event ingestion pipeline. Called concurrently, at most
+ * {@code sample.s3.ingestion.fetch-concurrency} times at once; the content stream is
+ * closed by the caller.
+ */
+@FunctionalInterface
+public interface S3ObjectProcessor {
+
+	void process(S3ObjectEvent event, InputStream content) throws IOException;
+
+}
@@ -0,0 +1,39 @@
+package com.example.s3;
+
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.model.CompletedFileDownload;
+import software.amazon.awssdk.transfer.s3.model.CompletedFileUpload;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Moves files between the local file system and S3 without buffering whole objects on the
+ * heap. Large objects are split into parts that the CRT client transfers in parallel;
+ * part size and concurrency come from the {@code spring.cloud.aws.s3.crt.*} properties.
+ */
+@Service
+public class S3TransferService {
+
+	private final S3TransferManager transferManager;
+
+	public S3TransferService(S3TransferManager transferManager) {
+		this.transferManager = transferManager;
+	}
+
+	public CompletableFuture<CompletedFileUpload> upload(Path source, String bucket, String key) {
+		return this.transferManager
+			.uploadFile(
+					(request) -> request.source(source).putObjectRequest((object) -> object.bucket(bucket).key(key)))
+			.completionFuture();
+	}
+
+	public CompletableFuture<CompletedFileDownload> download(String bucket, String key, Path destination) {
+		return this.transferManager
+			.downloadFile((request) -> request.destination(destination)
+				.getObjectRequest((object) -> object.bucket(bucket).key(key)))
+			.completionFuture();
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.example.s3;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32C;
+
+/**
+ * Large test files written and checksummed through a direct buffer, so that neither side
+ * of a transfer adds to the heap of the test JVM.
+ */
+final class RandomFiles {
+
+	private static final int CHUNK_SIZE = 1024 * 1024;
+
+	private RandomFiles() {
+	}
+
+	/**
+	 * Write a file of the given number of random megabytes. Every chunk starts with its
+	 * index, so misplaced chunks change the checksum.
+	 */
+	static Path create(Path file, long sizeInMb) throws IOException {
+		ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK_SIZE);
+		byte[] random = new byte[CHUNK_SIZE];
+		ThreadLocalRandom.current().nextBytes(random);
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+			for (long i = 0; i < sizeInMb; i++) {
+				chunk.clear().put(random).putLong(0, i).flip();
+				while (chunk.hasRemaining()) {
+					channel.write(chunk);
+				}
+			}
+		}
+		return file;
+	}
+
+	static long checksum(Path file) throws IOException {
+		return checksum(FileChannel.open(file, StandardOpenOption.READ));
+	}
+
+	static long checksum(InputStream inputStream) {
+		try {
+			return checksum(Channels.newChannel(inputStream));
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static long checksum(ReadableByteChannel channel) throws IOException {
+		CRC32C crc = new CRC32C();
+		ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE);
+		try (channel) {
+			while (channel.read(buffer.clear()) != -1) {
+				crc.update(buffer.flip());
+			}
+		}
+		return crc.getValue();
+	}
+
+}
@@ -1,5 +1,7 @@
 package com.example.s3;
 
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
 import io.awspring.cloud.s3.S3Template;
 import io.awspring.cloud.sqs.annotation.SqsListener;
 import org.junit.jupiter.api.BeforeAll;
@@ -8,12 +10,9 @@ import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
-import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.context.annotation.Bean;
-import org.testcontainers.localstack.LocalStackContainer;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
-import org.testcontainers.utility.DockerImageName;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.eventnotifications.s3.model.S3EventNotification;
@@ -30,15 +29,15 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
-@Testcontainers
 @EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources({ "s3", "sqs" })
 class S3ApplicationTests {
 
-	@Container
-	@ServiceConnection
-	private static LocalStackContainer localstack = new LocalStackContainer(
-			DockerImageName.parse("localstack/localstack:2026.06.0"))
-		.withEnv("LOCALSTACK_AUTH_TOKEN", System.getenv("LOCALSTACK_AUTH_TOKEN"));
+	private static LocalStackNamespace localstack = LocalStackNamespace.forClass(S3ApplicationTests.class);
+
+	private static final String CONFERENCES_BUCKET = localstack.name("conferences");
+
+	private static final String TALKS_BUCKET = localstack.name("talks");
 
 	@Autowired
 	private S3Template s3Template;
@@ -60,9 +59,14 @@ class S3ApplicationTests {
 			           }
 			""";
 
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		localstack.registerProperties(registry);
+	}
+
 	@BeforeAll
 	static void beforeAll() throws IOException, InterruptedException {
-		localstack.execInContainer("awslocal", "s3api", "create-bucket", "--bucket", "conferences", "--region",
+		localstack.awslocal("s3api", "create-bucket", "--bucket", CONFERENCES_BUCKET, "--region",
 				localstack.getRegion());
 		try (var sqsClient = SqsClient.builder()
 			.region(Region.of(localstack.getRegion()))
@@ -74,8 +78,8 @@ class S3ApplicationTests {
 			var queueAttributes = sqsClient.getQueueAttributes(
 					builder -> builder.queueUrl(queue.queueUrl()).attributeNamesWithStrings("QueueArn"));
 			var queueArn = queueAttributes.attributesAsStrings().get("QueueArn");
-			localstack.execInContainer("awslocal", "s3api", "put-bucket-notification-configuration", "--bucket",
-					"conferences", "--notification-configuration", String.format(POLICY, queueArn));
+			localstack.awslocal("s3api", "put-bucket-notification-configuration", "--bucket", CONFERENCES_BUCKET,
+					"--notification-configuration", String.format(POLICY, queueArn));
 		}
 	}
 
@@ -83,17 +87,17 @@ class S3ApplicationTests {
 	void contextLoads() {
 		assertThat(this.s3Client.listBuckets().buckets()).hasSize(1);
 
-		this.s3Template.store("conferences", "javaone.txt", "Las Vegas");
+		this.s3Template.store(CONFERENCES_BUCKET, "javaone.txt", "Las Vegas");
 		ListObjectsV2Response listConferencesObjectsV2Response = this.s3Client
-			.listObjectsV2(ListObjectsV2Request.builder().bucket("conferences").build());
+			.listObjectsV2(ListObjectsV2Request.builder().bucket(CONFERENCES_BUCKET).build());
 		assertThat(listConferencesObjectsV2Response.contents()).hasSize(1);
 
-		this.s3Template.createBucket("talks");
+		this.s3Template.createBucket(TALKS_BUCKET);
 		assertThat(this.s3Client.listBuckets().buckets()).hasSize(2);
 
-		this.s3Template.store("talks", "Adopting Testcontainers for local development.txt", "Oleg Šelajev");
+		this.s3Template.store(TALKS_BUCKET, "Adopting Testcontainers for local development.txt", "Oleg Šelajev");
 		ListObjectsV2Response listTalksObjectsV2Response = this.s3Client
-			.listObjectsV2(ListObjectsV2Request.builder().bucket("talks").build());
+			.listObjectsV2(ListObjectsV2Request.builder().bucket(TALKS_BUCKET).build());
 		assertThat(listTalksObjectsV2Response.contents()).hasSize(1);
 		assertThat(testListener.messages).hasSize(2);
 		var s3EventNotification = S3EventNotification.fromJson(testListener.messages.get(1));
@@ -0,0 +1,97 @@
+package com.example.s3;
+
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources(value = "s3", exclusive = true)
+class S3BulkOperationsTests {
+
+	private static final Log logger = LogFactory.getLog(S3BulkOperationsTests.class);
+
+	private static final int KEYS = Integer.getInteger("s3.bulk.keys", 100_000);
+
+	private static final int PREFIXES = 64;
+
+	private static LocalStackNamespace localstack = LocalStackNamespace.forClass(S3BulkOperationsTests.class);
+
+	private static final String BUCKET = localstack.name("bulk");
+
+	@Autowired
+	private S3BulkOperations bulkOperations;
+
+	@Autowired
+	private S3Client s3Client;
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		localstack.registerProperties(registry);
+	}
+
+	@BeforeAll
+	static void beforeAll() throws IOException, InterruptedException {
+		localstack.awslocal("s3api", "create-bucket", "--bucket", BUCKET, "--region", localstack.getRegion());
+	}
+
+	@Test
+	void listsAndDeletesAllKeysBelowPrefix() throws Exception {
+		createObjects();
+		this.s3Client.putObject((request) -> request.bucket(BUCKET).key("unrelated.txt"), RequestBody.empty());
+
+		Set<String> keys = ConcurrentHashMap.newKeySet();
+		long start = System.nanoTime();
+		long listed = this.bulkOperations.list(BUCKET, "tenants/", (object) -> keys.add(object.key()));
+		Duration listing = Duration.ofNanos(System.nanoTime() - start);
+
+		start = System.nanoTime();
+		long deleted = this.bulkOperations.deleteAll(BUCKET, "tenants/");
+		Duration deletion = Duration.ofNanos(System.nanoTime() - start);
+
+		logger.info("Bulk operations on %d keys: listed at %.0f objects/s, deleted at %.0f objects/s".formatted(KEYS,
+				KEYS / (listing.toNanos() / 1e9), KEYS / (deletion.toNanos() / 1e9)));
+
+		assertThat(listed).isEqualTo(KEYS);
+		assertThat(keys).hasSize(KEYS);
+		assertThat(deleted).isEqualTo(KEYS);
+		assertThat(this.bulkOperations.count(BUCKET, "tenants/")).isZero();
+		assertThat(this.bulkOperations.count(BUCKET, "")).isOne();
+	}
+
+	private void createObjects() throws Exception {
+		try (ExecutorService executor = Executors.newFixedThreadPool(64)) {
+			List<Future<?>> puts = IntStream.range(0, KEYS)
+				.<Future<?>>mapToObj((i) -> executor.submit(() -> this.s3Client.putObject(
+						(request) -> request.bucket(BUCKET).key("tenants/%02d/object-%06d".formatted(i % PREFIXES, i)),
+						RequestBody.empty())))
+				.toList();
+			for (Future<?> put : puts) {
+				put.get();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,173 @@
+package com.example.s3;
+
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
+import io.awspring.cloud.sqs.operations.SqsTemplate;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.sqs.SqsClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources(value = { "s3", "sqs" }, exclusive = true)
+class S3EventIngestionTests {
+
+	private static final Log logger = LogFactory.getLog(S3EventIngestionTests.class);
+
+	private static final int OBJECTS = Integer.getInteger("s3.ingestion.objects", 2_000);
+
+	private static LocalStackNamespace localstack = LocalStackNamespace.forClass(S3EventIngestionTests.class);
+
+	private static final String BUCKET = localstack.name("uploads");
+
+	private static final String QUEUE = "s3-ingestion-queue";
+
+	private static final String NOTIFICATION_CONFIGURATION = """
+			{"QueueConfigurations": [{"QueueArn": "%s", "Events": ["s3:ObjectCreated:*"]}]}
+			""";
+
+	private static final String DUPLICATE_NOTIFICATION = """
+			{"Records": [{"eventVersion": "2.1", "eventSource": "aws:s3", "awsRegion": "%s",
+			"eventTime": "%s", "eventName": "ObjectCreated:Put",
+			"s3": {"s3SchemaVersion": "1.0", "bucket": {"name": "%s", "arn": "arn:aws:s3:::%s"},
+			"object": {"key": "%s", "size": %d, "eTag": "%s", "sequencer": "%s"}}}]}
+			""";
+
+	@Autowired
+	private S3Client s3Client;
+
+	@Autowired
+	private SqsTemplate sqsTemplate;
+
+	@Autowired
+	private RecordingProcessor processor;
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		localstack.registerProperties(registry);
+		registry.add("sample.s3.ingestion.queue", () -> QUEUE);
+	}
+
+	@BeforeAll
+	static void beforeAll() throws IOException, InterruptedException {
+		localstack.awslocal("s3api", "create-bucket", "--bucket", BUCKET, "--region", localstack.getRegion());
+		try (var sqsClient = SqsClient.builder()
+			.region(Region.of(localstack.getRegion()))
+			.credentialsProvider(StaticCredentialsProvider
+				.create(AwsBasicCredentials.create(localstack.getAccessKey(), localstack.getSecretKey())))
+			.endpointOverride(localstack.getEndpoint())
+			.build()) {
+			var queue = sqsClient.createQueue((builder) -> builder.queueName(QUEUE));
+			var queueArn = sqsClient
+				.getQueueAttributes(
+						(builder) -> builder.queueUrl(queue.queueUrl()).attributeNamesWithStrings("QueueArn"))
+				.attributesAsStrings()
+				.get("QueueArn");
+			localstack.awslocal("s3api", "put-bucket-notification-configuration", "--bucket", BUCKET,
+					"--notification-configuration", NOTIFICATION_CONFIGURATION.formatted(queueArn));
+		}
+	}
+
+	@Test
+	void ingestsUploadedObjectsOnce() throws Exception {
+		Map<String, Long> uploadedAt = new ConcurrentHashMap<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(32)) {
+			List<Future<?>> uploads = IntStream.range(0, OBJECTS).<Future<?>>mapToObj((i) -> executor.submit(() -> {
+				String key = "incoming/object-%05d.json".formatted(i);
+				uploadedAt.put(key, System.nanoTime());
+				this.s3Client.putObject((request) -> request.bucket(BUCKET).key(key),
+						RequestBody.fromString("{\"id\": %d}".formatted(i)));
+			})).toList();
+			for (Future<?> upload : uploads) {
+				upload.get();
+			}
+		}
+
+		Awaitility.waitAtMost(Duration.ofMinutes(5))
+			.pollInterval(Duration.ofMillis(100))
+			.until(() -> this.processor.processedAt.size() == OBJECTS);
+
+		long[] latencies = this.processor.processedAt.entrySet()
+			.stream()
+			.mapToLong((entry) -> entry.getValue() - uploadedAt.get(entry.getKey()))
+			.sorted()
+			.toArray();
+		logger.info("S3 event ingestion of %d objects: latency p50 %d ms, p99 %d ms, max %d ms".formatted(OBJECTS,
+				percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 1.0)));
+
+		S3ObjectEvent processed = this.processor.events.values().iterator().next();
+		this.sqsTemplate.send(QUEUE,
+				DUPLICATE_NOTIFICATION.formatted(localstack.getRegion(), processed.eventTime(), processed.bucket(),
+						processed.bucket(), processed.key(), processed.size(), processed.eTag(),
+						processed.sequencer()));
+		// The redelivered notification must not be processed again
+		Awaitility.await()
+			.during(Duration.ofSeconds(5))
+			.atMost(Duration.ofSeconds(10))
+			.pollInterval(Duration.ofMillis(100))
+			.until(() -> this.processor.invocations.sum() == OBJECTS);
+	}
+
+	private static long percentile(long[] sortedNanos, double percentile) {
+		int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+		return Duration.ofNanos(sortedNanos[Math.max(index, 0)]).toMillis();
+	}
+
+	@TestConfiguration(proxyBeanMethods = false)
+	static class TestConfig {
+
+		@Bean
+		RecordingProcessor recordingProcessor() {
+			return new RecordingProcessor();
+		}
+
+	}
+
+	static class RecordingProcessor implements S3ObjectProcessor {
+
+		private final Map<String, Long> processedAt = new ConcurrentHashMap<>();
+
+		private final Map<String, S3ObjectEvent> events = new ConcurrentHashMap<>();
+
+		private final LongAdder invocations = new LongAdder();
+
+		@Override
+		public void process(S3ObjectEvent event, InputStream content) throws IOException {
+			assertThat(content.readAllBytes()).hasSize((int) event.size());
+			this.invocations.increment();
+			this.events.put(event.key(), event);
+			this.processedAt.put(event.key(), System.nanoTime());
+		}
+
+	}
+
+}
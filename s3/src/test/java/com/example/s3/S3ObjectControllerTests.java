@@ -0,0 +1,175 @@
+package com.example.s3;
+
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources(value = "s3", exclusive = true)
+class S3ObjectControllerTests {
+
+	private static final Log logger = LogFactory.getLog(S3ObjectControllerTests.class);
+
+	private static final long SIZE_IN_MB = Long.getLong("s3.download.size-mb", 256);
+
+	private static final int CONCURRENT_DOWNLOADS = Integer.getInteger("s3.download.concurrency", 8);
+
+	private static LocalStackNamespace localstack = LocalStackNamespace.forClass(S3ObjectControllerTests.class);
+
+	private static final String BUCKET = localstack.name("downloads");
+
+	@TempDir
+	static Path directory;
+
+	static Path source;
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private S3TransferService transferService;
+
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		localstack.registerProperties(registry);
+	}
+
+	@BeforeAll
+	static void beforeAll() throws IOException, InterruptedException {
+		localstack.awslocal("s3api", "create-bucket", "--bucket", BUCKET, "--region", localstack.getRegion());
+		source = RandomFiles.create(directory.resolve("source.bin"), SIZE_IN_MB);
+	}
+
+	// Surefire caps the heap below the combined size of the downloads, so buffering
+	// objects fails with an OutOfMemoryError instead of passing unnoticed
+	@Test
+	void streamsLargeObjectsConcurrentlyWithBoundedHeap() throws IOException {
+		this.transferService.upload(source, BUCKET, "large.bin").join();
+		long size = Files.size(source);
+		long expectedChecksum = RandomFiles.checksum(source);
+		assertThat(Runtime.getRuntime().maxMemory()).as("maximum heap size").isLessThan(CONCURRENT_DOWNLOADS * size);
+
+		long start = System.nanoTime();
+		List<CompletableFuture<HttpResponse<InputStream>>> downloads = IntStream.range(0, CONCURRENT_DOWNLOADS)
+			.mapToObj((i) -> this.httpClient.sendAsync(request("large.bin").build(),
+					HttpResponse.BodyHandlers.ofInputStream()))
+			.toList();
+		List<Long> checksums = downloads.stream().map(CompletableFuture::join).map((response) -> {
+			assertThat(response.statusCode()).isEqualTo(200);
+			assertThat(response.headers().firstValueAsLong("Content-Length")).hasValue(size);
+			return RandomFiles.checksum(response.body());
+		}).toList();
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		logger.info("%d concurrent downloads of %d MB with a %d MB heap in %d ms".formatted(CONCURRENT_DOWNLOADS,
+				SIZE_IN_MB, Runtime.getRuntime().maxMemory() >> 20, elapsedMillis));
+		assertThat(checksums).containsOnly(expectedChecksum);
+	}
+
+	@Test
+	void servesKeysWithSlashes() throws Exception {
+		this.transferService.upload(source, BUCKET, "nested/path/to/object.bin").join();
+
+		HttpResponse<InputStream> response = this.httpClient.send(request("nested/path/to/object.bin").build(),
+				HttpResponse.BodyHandlers.ofInputStream());
+		assertThat(response.statusCode()).isEqualTo(200);
+		assertThat(RandomFiles.checksum(response.body())).isEqualTo(RandomFiles.checksum(source));
+
+		HttpResponse<Void> parent = this.httpClient.send(request("nested/path").build(),
+				HttpResponse.BodyHandlers.discarding());
+		assertThat(parent.statusCode()).isEqualTo(404);
+	}
+
+	@Test
+	void answersHeadRequestsFromMetadata() throws Exception {
+		this.transferService.upload(source, BUCKET, "head.bin").join();
+		long size = Files.size(source);
+
+		HttpResponse<Void> response = this.httpClient.send(
+				request("head.bin").method("HEAD", HttpRequest.BodyPublishers.noBody()).build(),
+				HttpResponse.BodyHandlers.discarding());
+		assertThat(response.statusCode()).isEqualTo(200);
+		assertThat(response.headers().firstValueAsLong("Content-Length")).hasValue(size);
+		assertThat(response.headers().firstValue("ETag")).isPresent();
+
+		HttpResponse<Void> range = this.httpClient.send(request("head.bin").header("Range", "bytes=0-99")
+			.method("HEAD", HttpRequest.BodyPublishers.noBody())
+			.build(), HttpResponse.BodyHandlers.discarding());
+		assertThat(range.statusCode()).isEqualTo(206);
+		assertThat(range.headers().firstValue("Content-Range")).hasValue("bytes 0-99/" + size);
+
+		HttpResponse<Void> missing = this.httpClient.send(
+				request("missing.bin").method("HEAD", HttpRequest.BodyPublishers.noBody()).build(),
+				HttpResponse.BodyHandlers.discarding());
+		assertThat(missing.statusCode()).isEqualTo(404);
+	}
+
+	@Test
+	void servesByteRanges() throws Exception {
+		this.transferService.upload(source, BUCKET, "ranges.bin").join();
+		long size = Files.size(source);
+
+		assertRange("bytes=0-99", 0, 100, size);
+		assertRange("bytes=1048570-1048585", 1048570, 16, size);
+		assertRange("bytes=-100", size - 100, 100, size);
+		assertRange("bytes=" + (size - 10) + "-", size - 10, 10, size);
+
+		HttpResponse<Void> unsatisfiable = this.httpClient.send(
+				request("ranges.bin").header("Range", "bytes=" + size + "-").build(),
+				HttpResponse.BodyHandlers.discarding());
+		assertThat(unsatisfiable.statusCode()).isEqualTo(416);
+
+		HttpResponse<Void> missing = this.httpClient.send(request("missing.bin").build(),
+				HttpResponse.BodyHandlers.discarding());
+		assertThat(missing.statusCode()).isEqualTo(404);
+	}
+
+	private void assertRange(String range, long start, int length, long size) throws Exception {
+		HttpResponse<byte[]> response = this.httpClient.send(request("ranges.bin").header("Range", range).build(),
+				HttpResponse.BodyHandlers.ofByteArray());
+		assertThat(response.statusCode()).isEqualTo(206);
+		assertThat(response.headers().firstValue("Content-Range"))
+			.hasValue("bytes %d-%d/%d".formatted(start, start + length - 1, size));
+		ByteBuffer expected = ByteBuffer.allocate(length);
+		try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+			channel.read(expected, start);
+		}
+		assertThat(response.body()).isEqualTo(expected.array());
+	}
+
+	private HttpRequest.Builder request(String key) {
+		return HttpRequest
+			.newBuilder(URI.create("http://localhost:%d/buckets/%s/objects/%s".formatted(this.port, BUCKET, key)));
+	}
+
+}
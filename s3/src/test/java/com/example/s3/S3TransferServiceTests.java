@@ -0,0 +1,81 @@
+package com.example.s3;
+
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources(value = "s3", exclusive = true)
+class S3TransferServiceTests {
+
+	private static final Log logger = LogFactory.getLog(S3TransferServiceTests.class);
+
+	private static final long SIZE_IN_MB = Long.getLong("s3.transfer.size-mb", 1024);
+
+	private static LocalStackNamespace localstack = LocalStackNamespace.forClass(S3TransferServiceTests.class);
+
+	private static final String BUCKET = localstack.name("transfers");
+
+	@TempDir
+	static Path directory;
+
+	static Path source;
+
+	@Autowired
+	private S3TransferService transferService;
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		localstack.registerProperties(registry);
+	}
+
+	@BeforeAll
+	static void beforeAll() throws IOException, InterruptedException {
+		localstack.awslocal("s3api", "create-bucket", "--bucket", BUCKET, "--region", localstack.getRegion());
+		source = RandomFiles.create(directory.resolve("source.bin"), SIZE_IN_MB);
+	}
+
+	// Surefire caps the heap below the default object size, so buffering the object
+	// fails with an OutOfMemoryError instead of passing unnoticed
+	@Test
+	void transfersLargeFileWithoutBufferingItOnTheHeap() throws IOException {
+		Path target = directory.resolve("target.bin");
+		long size = Files.size(source);
+		assertThat(Runtime.getRuntime().maxMemory()).as("maximum heap size").isLessThan(size);
+
+		long start = System.nanoTime();
+		this.transferService.upload(source, BUCKET, "large.bin").join();
+		Duration upload = Duration.ofNanos(System.nanoTime() - start);
+
+		start = System.nanoTime();
+		this.transferService.download(BUCKET, "large.bin", target).join();
+		Duration download = Duration.ofNanos(System.nanoTime() - start);
+
+		logger.info("S3 transfer of %d MB with a %d MB heap: upload %.1f MB/s, download %.1f MB/s".formatted(SIZE_IN_MB,
+				Runtime.getRuntime().maxMemory() >> 20, throughput(size, upload), throughput(size, download)));
+		assertThat(Files.size(target)).isEqualTo(size);
+		assertThat(RandomFiles.checksum(target)).isEqualTo(RandomFiles.checksum(source));
+	}
+
+	private static double throughput(long bytes, Duration duration) {
+		return (bytes / (1024.0 * 1024.0)) / (duration.toNanos() / 1_000_000_000.0);
+	}
+
+}
@@ -0,0 +1,117 @@
+package com.example.secretsmanager;
+
+import com.example.configdata.ConcurrentConfigDataLoader;
+import com.example.configdata.ConcurrentConfigDataResource;
+import org.springframework.boot.bootstrap.BootstrapContext;
+import org.springframework.boot.context.config.ConfigDataResourceNotFoundException;
+import org.springframework.boot.logging.DeferredLogFactory;
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.ListSecretsResponse;
+import software.amazon.awssdk.services.secretsmanager.model.SecretValueEntry;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads {@code aws-secretsmanager-batch:} imports with up to
+ * {@code sample.secrets.bootstrap.concurrency} concurrent {@code BatchGetSecretValue}
+ * calls of 20 secrets each. The secrets matching a filter are first listed with
+ * {@code ListSecrets}, which only returns metadata, so that their values are fetched in
+ * concurrent groups as well rather than one page after the other. As with
+ * {@code aws-secretsmanager:} imports, a secret holding a JSON object contributes one
+ * property per key and any other secret a property named after the last segment of its
+ * name. Later entries take precedence over earlier ones.
+ */
+public class BatchSecretsManagerConfigDataLoader extends ConcurrentConfigDataLoader {
+
+	private static final int MAX_SECRETS_PER_CALL = 20;
+
+	private static final int MAX_SECRETS_PER_LIST = 100;
+
+	private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {
+	};
+
+	private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+	public BatchSecretsManagerConfigDataLoader(DeferredLogFactory logFactory) {
+		super(BatchSecretsManagerConfigDataLocationResolver.PREFIX,
+				logFactory.getLog(BatchSecretsManagerConfigDataLoader.class));
+	}
+
+	@Override
+	protected List<Callable<Map<String, Object>>> loads(BootstrapContext context, ConcurrentConfigDataResource resource,
+			AtomicInteger calls) {
+		SecretsManagerClient client = context.get(SecretsManagerClient.class);
+		Set<String> secretIds = new LinkedHashSet<>();
+		for (String filter : resource.getGroups()) {
+			secretIds.addAll(listSecrets(client, filter, calls));
+		}
+		secretIds.addAll(resource.getNames());
+		List<String> ids = List.copyOf(secretIds);
+		List<Callable<Map<String, Object>>> loads = new ArrayList<>();
+		for (int from = 0; from < ids.size(); from += MAX_SECRETS_PER_CALL) {
+			List<String> group = ids.subList(from, Math.min(from + MAX_SECRETS_PER_CALL, ids.size()));
+			loads.add(() -> loadSecretIds(client, group, calls, resource));
+		}
+		return loads;
+	}
+
+	private List<String> listSecrets(SecretsManagerClient client, String filter, AtomicInteger calls) {
+		int separator = filter.indexOf('=');
+		String key = filter.substring(0, separator);
+		String value = filter.substring(separator + 1);
+		List<String> names = new ArrayList<>();
+		for (ListSecretsResponse page : client
+			.listSecretsPaginator((request) -> request.filters((builder) -> builder.key(key).values(value))
+				.maxResults(MAX_SECRETS_PER_LIST))) {
+			calls.incrementAndGet();
+			page.secretList().forEach((secret) -> names.add(secret.name()));
+		}
+		return names;
+	}
+
+	private Map<String, Object> loadSecretIds(SecretsManagerClient client, List<String> secretIds, AtomicInteger calls,
+			ConcurrentConfigDataResource resource) {
+		calls.incrementAndGet();
+		BatchGetSecretValueResponse response = client.batchGetSecretValue((request) -> request.secretIdList(secretIds));
+		if (response.hasErrors() && !response.errors().isEmpty()) {
+			throw new ConfigDataResourceNotFoundException(resource,
+					new IllegalStateException("Failed to load secrets: " + response.errors()));
+		}
+		Map<String, Object> properties = new LinkedHashMap<>();
+		for (SecretValueEntry secret : response.secretValues()) {
+			addSecret(secret, properties);
+		}
+		return properties;
+	}
+
+	private void addSecret(SecretValueEntry secret, Map<String, Object> properties) {
+		String name = secret.name().substring(secret.name().lastIndexOf('/') + 1);
+		String secretString = secret.secretString();
+		if (secretString == null) {
+			properties.put(name, secret.secretBinary().asByteArray());
+			return;
+		}
+		if (secretString.strip().startsWith("{")) {
+			try {
+				properties.putAll(this.jsonMapper.readValue(secretString, JSON_OBJECT));
+				return;
+			}
+			catch (JacksonException ex) {
+				// Not a JSON object, use the value as is
+			}
+		}
+		properties.put(name, secretString);
+	}
+
+}
@@ -0,0 +1,46 @@
+package com.example.secretsmanager;
+
+import com.example.configdata.ConcurrentConfigDataLocationResolver;
+import io.awspring.cloud.autoconfigure.config.secretsmanager.SecretsManagerProperties;
+import org.springframework.boot.bootstrap.BootstrapContext;
+import org.springframework.boot.context.config.ConfigDataLocationResolverContext;
+import org.springframework.boot.context.properties.bind.Binder;
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
+
+/**
+ * Resolves {@code aws-secretsmanager-batch:} imports such as
+ * {@code aws-secretsmanager-batch:name=/service/a/;tag-key=shared;/service/b/password}.
+ * Entries of the form {@code key=value} are {@code ListSecrets} filters; all other
+ * entries are secret ids.
+ */
+public class BatchSecretsManagerConfigDataLocationResolver extends ConcurrentConfigDataLocationResolver {
+
+	public static final String PREFIX = "aws-secretsmanager-batch:";
+
+	public BatchSecretsManagerConfigDataLocationResolver() {
+		super("sample.secrets.bootstrap.concurrency", 8);
+	}
+
+	@Override
+	protected String getPrefix() {
+		return PREFIX;
+	}
+
+	@Override
+	protected void registerClient(ConfigDataLocationResolverContext resolverContext, Binder binder) {
+		registerBean(resolverContext, SecretsManagerProperties.class,
+				binder.bind(SecretsManagerProperties.CONFIG_PREFIX, SecretsManagerProperties.class)
+					.orElseGet(SecretsManagerProperties::new));
+		registerAndPromoteBean(resolverContext, SecretsManagerClient.class, this::createSecretsManagerClient);
+	}
+
+	@Override
+	protected boolean isGroup(String context) {
+		return context.indexOf('=') > 0;
+	}
+
+	private SecretsManagerClient createSecretsManagerClient(BootstrapContext context) {
+		return configure(SecretsManagerClient.builder(), context.get(SecretsManagerProperties.class), context).build();
+	}
+
+}
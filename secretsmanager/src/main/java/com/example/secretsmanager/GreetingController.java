@@ -7,12 +7,18 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class GreetingController {
 
-	@Value("${text}")
-	private String secret;
+	@Value("${sample.secrets.greeting:/spring/secret/text}")
+	private String greetingSecret;
+
+	private final SecretCache secretCache;
+
+	public GreetingController(SecretCache secretCache) {
+		this.secretCache = secretCache;
+	}
 
 	@GetMapping("/greetings")
 	public String greeting() {
-		return this.secret;
+		return this.secretCache.get(this.greetingSecret);
 	}
 
 }
@@ -0,0 +1,124 @@
+package com.example.secretsmanager;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretResponse;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
+
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the {@code AWSCURRENT} version of secrets from memory. Once an entry is older
+ * than the TTL it keeps being served while a background refresh asks
+ * {@code DescribeSecret} which version is current; the secret value is only fetched again
+ * when that version changed, for example after a rotation. Secrets are loaded on their
+ * own threads rather than under a lock of the cache, and the least recently used entries
+ * are evicted beyond the maximum size. Hits and misses are published as the
+ * {@code cache.gets} meters of the {@code secrets} cache.
+ */
+@Component
+public class SecretCache implements DisposableBean {
+
+	static final String AWSCURRENT = "AWSCURRENT";
+
+	private final SecretsManagerClient secretsManagerClient;
+
+	private final ExecutorService loadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+	private final AsyncLoadingCache<String, GetSecretValueResponse> cache;
+
+	private final Timer unchangedRefreshes;
+
+	private final Timer changedRefreshes;
+
+	private final Timer failedRefreshes;
+
+	SecretCache(SecretsManagerClient secretsManagerClient, SecretCacheProperties properties,
+			MeterRegistry meterRegistry) {
+		this.secretsManagerClient = secretsManagerClient;
+		this.unchangedRefreshes = meterRegistry.timer("secret.cache.refresh", "outcome", "unchanged");
+		this.changedRefreshes = meterRegistry.timer("secret.cache.refresh", "outcome", "changed");
+		this.failedRefreshes = meterRegistry.timer("secret.cache.refresh", "outcome", "failure");
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(properties.maximumSize())
+			.refreshAfterWrite(properties.ttl())
+			.executor(this.loadExecutor)
+			.recordStats()
+			.buildAsync(new SecretLoader());
+		CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "secrets");
+	}
+
+	public String get(String secretId) {
+		try {
+			return this.cache.get(secretId).join().secretString();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw ex;
+		}
+	}
+
+	private String currentVersionId(String secretId) {
+		DescribeSecretResponse response = this.secretsManagerClient
+			.describeSecret((request) -> request.secretId(secretId));
+		return response.versionIdsToStages()
+			.entrySet()
+			.stream()
+			.filter((version) -> version.getValue().contains(AWSCURRENT))
+			.map(Map.Entry::getKey)
+			.findFirst()
+			.orElseThrow(() -> new IllegalStateException("Secret " + secretId + " has no " + AWSCURRENT + " version"));
+	}
+
+	private GetSecretValueResponse getSecretValue(String secretId) {
+		return this.secretsManagerClient
+			.getSecretValue((request) -> request.secretId(secretId).versionStage(AWSCURRENT));
+	}
+
+	@Override
+	public void destroy() {
+		this.loadExecutor.close();
+	}
+
+	private final class SecretLoader implements CacheLoader<String, GetSecretValueResponse> {
+
+		@Override
+		public GetSecretValueResponse load(String secretId) {
+			return getSecretValue(secretId);
+		}
+
+		// A failed refresh keeps the cached value, and the next read retries it
+		@Override
+		public GetSecretValueResponse reload(String secretId, GetSecretValueResponse cached) {
+			long start = System.nanoTime();
+			try {
+				if (currentVersionId(secretId).equals(cached.versionId())) {
+					SecretCache.this.unchangedRefreshes.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+					return cached;
+				}
+				GetSecretValueResponse current = getSecretValue(secretId);
+				SecretCache.this.changedRefreshes.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+				return current;
+			}
+			catch (RuntimeException ex) {
+				SecretCache.this.failedRefreshes.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+				throw ex;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,15 @@
+package com.example.secretsmanager;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the {@link SecretCache}: how long a secret is served before its
+ * {@code AWSCURRENT} version is checked again and how many secrets are kept.
+ */
+@ConfigurationProperties("sample.secrets.cache")
+public record SecretCacheProperties(@DefaultValue("1m") Duration ttl, @DefaultValue("1000") int maximumSize) {
+
+}
@@ -0,0 +1,176 @@
+package com.example.secretsmanager;
+
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "sample.secrets.cache.ttl=1s")
+@ContextConfiguration(initializers = ConfigDataApplicationContextInitializer.class)
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources("secretsmanager")
+class SecretCacheTests {
+
+	private static final Log logger = LogFactory.getLog(SecretCacheTests.class);
+
+	private static final String SECRET = "/spring/secret/text";
+
+	private static final int CLIENTS = 8;
+
+	private static LocalStackNamespace localstack = LocalStackNamespace.forClass(SecretCacheTests.class);
+
+	@LocalServerPort
+	private int localPort;
+
+	@Autowired
+	private SecretsManagerClient secretsManagerClient;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		localstack.registerProperties(registry);
+		registry.add("spring.cloud.aws.secretsmanager.endpoint", () -> localstack.getEndpoint().toString());
+		registry.add("spring.cloud.aws.secretsmanager.region", localstack::getRegion);
+	}
+
+	@BeforeAll
+	static void beforeAll() throws IOException, InterruptedException {
+		localstack.awslocal("secretsmanager", "create-secret", "--name", SECRET, "--secret-string", "initial",
+				"--region", localstack.getRegion());
+	}
+
+	@Test
+	void servesCurrentVersionWhileSecretChangesUnderLoad() throws Exception {
+		Set<String> served = ConcurrentHashMap.newKeySet();
+		LongAdder requests = new LongAdder();
+		LongAdder failures = new LongAdder();
+		AtomicBoolean running = new AtomicBoolean(true);
+		HttpRequest request = greetingRequest();
+		try (ExecutorService clients = Executors.newFixedThreadPool(CLIENTS)) {
+			for (int i = 0; i < CLIENTS; i++) {
+				clients.execute(() -> {
+					while (running.get()) {
+						try {
+							HttpResponse<String> response = this.httpClient.send(request,
+									HttpResponse.BodyHandlers.ofString());
+							if (response.statusCode() == 200) {
+								served.add(response.body());
+							}
+							else {
+								failures.increment();
+							}
+							requests.increment();
+						}
+						catch (IOException | InterruptedException ex) {
+							failures.increment();
+						}
+					}
+				});
+			}
+
+			Thread.sleep(Duration.ofSeconds(2));
+			this.secretsManagerClient.putSecretValue((put) -> put.secretId(SECRET).secretString("updated"));
+			awaitServed("updated");
+
+			// Rotate as a rotation function would: stage the new value as AWSPENDING,
+			// which must not be served, then promote it to AWSCURRENT.
+			String oldVersion = currentVersion();
+			String newVersion = this.secretsManagerClient
+				.putSecretValue((put) -> put.secretId(SECRET).secretString("rotated").versionStages("AWSPENDING"))
+				.versionId();
+			Thread.sleep(Duration.ofSeconds(3));
+			assertThat(get()).isEqualTo("updated");
+			this.secretsManagerClient.updateSecretVersionStage((update) -> update.secretId(SECRET)
+				.versionStage(SecretCache.AWSCURRENT)
+				.moveToVersionId(newVersion)
+				.removeFromVersionId(oldVersion));
+			awaitServed("rotated");
+			running.set(false);
+		}
+
+		double hits = gets("hit");
+		double misses = gets("miss");
+		logger.info(
+				"Secret cache: %d requests, hit rate %.4f, refreshes %d unchanged (mean %.1f ms), %d changed (mean %.1f ms)"
+					.formatted(requests.sum(), hits / (hits + misses), timer("unchanged").count(),
+							timer("unchanged").mean(TimeUnit.MILLISECONDS), timer("changed").count(),
+							timer("changed").mean(TimeUnit.MILLISECONDS)));
+		assertThat(failures.sum()).isZero();
+		assertThat(served).containsExactlyInAnyOrder("initial", "updated", "rotated");
+		assertThat(timer("changed").count()).isEqualTo(2);
+		assertThat(misses).isOne();
+	}
+
+	private void awaitServed(String value) {
+		Awaitility.waitAtMost(Duration.ofSeconds(30))
+			.pollInterval(Duration.ofMillis(50))
+			.until(() -> get().equals(value));
+	}
+
+	private String get() throws IOException, InterruptedException {
+		return this.httpClient.send(greetingRequest(), HttpResponse.BodyHandlers.ofString()).body();
+	}
+
+	private HttpRequest greetingRequest() {
+		return HttpRequest.newBuilder(URI.create("http://localhost:%d/greetings".formatted(this.localPort))).build();
+	}
+
+	private String currentVersion() {
+		return this.secretsManagerClient.describeSecret((describe) -> describe.secretId(SECRET))
+			.versionIdsToStages()
+			.entrySet()
+			.stream()
+			.filter((entry) -> entry.getValue().contains(SecretCache.AWSCURRENT))
+			.map(Map.Entry::getKey)
+			.findFirst()
+			.orElseThrow();
+	}
+
+	private double gets(String result) {
+		return this.meterRegistry.get("cache.gets")
+			.tag("cache", "secrets")
+			.tag("result", result)
+			.functionCounter()
+			.count();
+	}
+
+	private Timer timer(String outcome) {
+		return this.meterRegistry.get("secret.cache.refresh").tag("outcome", outcome).timer();
+	}
+
+}
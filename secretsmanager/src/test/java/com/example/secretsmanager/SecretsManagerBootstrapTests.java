@@ -0,0 +1,110 @@
+package com.example.secretsmanager;
+
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
+import com.example.localstack.StartupComparison;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources(value = "secretsmanager", exclusive = true)
+class SecretsManagerBootstrapTests {
+
+	private static final Log logger = LogFactory.getLog(SecretsManagerBootstrapTests.class);
+
+	private static final int SECRETS = Integer.getInteger("secretsmanager.bootstrap.secrets", 200);
+
+	private static final int RUNS = 3;
+
+	private static final String CREDENTIALS = "/bootstrap/credentials";
+
+	private static LocalStackNamespace localstack = LocalStackNamespace.forClass(SecretsManagerBootstrapTests.class);
+
+	private static final String NAME_LIST = IntStream.range(0, SECRETS)
+		.mapToObj(SecretsManagerBootstrapTests::secretName)
+		.collect(Collectors.joining(";"));
+
+	@BeforeAll
+	static void beforeAll() throws Exception {
+		try (SecretsManagerClient secretsManagerClient = SecretsManagerClient.builder()
+			.region(Region.of(localstack.getRegion()))
+			.credentialsProvider(StaticCredentialsProvider
+				.create(AwsBasicCredentials.create(localstack.getAccessKey(), localstack.getSecretKey())))
+			.endpointOverride(localstack.getEndpoint())
+			.build(); ExecutorService executor = Executors.newFixedThreadPool(16)) {
+			List<Future<?>> creates = new ArrayList<>();
+			for (int i = 0; i < SECRETS; i++) {
+				String name = secretName(i);
+				creates.add(executor.submit(() -> secretsManagerClient
+					.createSecret((request) -> request.name(name).secretString("value-" + name))));
+			}
+			creates.add(executor.submit(() -> secretsManagerClient.createSecret((request) -> request.name(CREDENTIALS)
+				.secretString("{\"username\": \"admin\", \"password\": \"s3cr3t\"}"))));
+			for (Future<?> create : creates) {
+				create.get();
+			}
+		}
+	}
+
+	@Test
+	void batchedLoaderStartsFasterThanSequentialImport() {
+		StartupComparison comparison = StartupComparison.run(RUNS,
+				() -> start("aws-secretsmanager:" + NAME_LIST + ";" + CREDENTIALS),
+				() -> start("aws-secretsmanager-batch:name=/bootstrap/"));
+		logger.info("Startup with %d secrets, sequential vs batched: %s".formatted(SECRETS + 1, comparison));
+		assertThat(comparison.bestCandidate()).isLessThan(comparison.bestBaseline());
+	}
+
+	private Duration start(String configImport) {
+		Map<String, Object> properties = new HashMap<>();
+		localstack.registerProperties((name, value) -> properties.put(name, value.get()));
+		properties.put("spring.cloud.aws.secretsmanager.endpoint", localstack.getEndpoint().toString());
+		properties.put("spring.cloud.aws.secretsmanager.region", localstack.getRegion());
+		properties.put("spring.config.import", configImport);
+		long start = System.nanoTime();
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SecretsmanagerApplication.class)
+			.web(WebApplicationType.NONE)
+			.properties(properties)
+			.run()) {
+			Duration duration = Duration.ofNanos(System.nanoTime() - start);
+			Environment environment = context.getEnvironment();
+			for (int i = 0; i < SECRETS; i++) {
+				assertThat(environment.getProperty("secret-%03d".formatted(i))).isEqualTo("value-" + secretName(i));
+			}
+			// JSON secrets contribute one property per key
+			assertThat(environment.getProperty("username")).isEqualTo("admin");
+			assertThat(environment.getProperty("password")).isEqualTo("s3cr3t");
+			assertThat(environment.containsProperty("credentials")).isFalse();
+			return duration;
+		}
+	}
+
+	private static String secretName(int index) {
+		return "/bootstrap/secret-%03d".formatted(index);
+	}
+
+}
@@ -1,5 +1,7 @@
 package com.example.secretsmanager;
 
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
 import io.restassured.RestAssured;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -10,27 +12,18 @@ import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
-import org.testcontainers.localstack.LocalStackContainer;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
-import org.testcontainers.utility.DockerImageName;
 
 import java.io.IOException;
 
 import static org.hamcrest.Matchers.equalTo;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
-		properties = { "spring.cloud.aws.credentials.access-key=noop", "spring.cloud.aws.credentials.secret-key=noop",
-				"spring.cloud.aws.region.static=us-east-1" })
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ContextConfiguration(initializers = ConfigDataApplicationContextInitializer.class)
-@Testcontainers
 @EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources("secretsmanager")
 class SecretsmanagerApplicationTests {
 
-	@Container
-	private static LocalStackContainer localstack = new LocalStackContainer(
-			DockerImageName.parse("localstack/localstack:2026.06.0"))
-		.withEnv("LOCALSTACK_AUTH_TOKEN", System.getenv("LOCALSTACK_AUTH_TOKEN"));
+	private static LocalStackNamespace localstack = LocalStackNamespace.forClass(SecretsmanagerApplicationTests.class);
 
 	@LocalServerPort
 	private int localPort;
@@ -39,6 +32,7 @@ class SecretsmanagerApplicationTests {
 
 	@DynamicPropertySource
 	static void properties(DynamicPropertyRegistry registry) {
+		localstack.registerProperties(registry);
 		registry.add("spring.cloud.aws.secretsmanager.endpoint", () -> localstack.getEndpoint().toString());
 		registry.add("spring.cloud.aws.secretsmanager.region", localstack::getRegion);
 		registry.add("spring.config.import", () -> "aws-secretsmanager:/spring/secret/text");
@@ -46,8 +40,8 @@ class SecretsmanagerApplicationTests {
 
 	@BeforeAll
 	static void beforeAll() throws IOException, InterruptedException {
-		localstack.execInContainer("awslocal", "secretsmanager", "create-secret", "--name", "/spring/secret/text",
-				"--secret-string", text, "--region", localstack.getRegion());
+		localstack.awslocal("secretsmanager", "create-secret", "--name", "/spring/secret/text", "--secret-string", text,
+				"--region", localstack.getRegion());
 	}
 
 	@Test
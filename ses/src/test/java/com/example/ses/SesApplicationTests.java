@@ -1,20 +1,19 @@
 package com.example.ses;
 
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.mail.MailSender;
 import org.springframework.mail.SimpleMailMessage;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.web.client.RestClient;
-import org.testcontainers.localstack.LocalStackContainer;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
-import org.testcontainers.utility.DockerImageName;
 
 import java.io.IOException;
 import java.util.List;
@@ -22,41 +21,45 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
-@Testcontainers
 @EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources("ses")
 class SesApplicationTests {
 
-	@Container
-	@ServiceConnection
-	static LocalStackContainer localStackContainer = new LocalStackContainer(
-			DockerImageName.parse("localstack/localstack:2026.06.0"))
-		.withEnv("LOCALSTACK_AUTH_TOKEN", System.getenv("LOCALSTACK_AUTH_TOKEN"));
+	static LocalStackNamespace localstack = LocalStackNamespace.forClass(SesApplicationTests.class);
+
+	// the /_aws/ses mailbox is shared by all accounts of the container
+	static String sender = localstack.name("hello") + "@example.com";
 
 	@Autowired
 	private MailSender mailSender;
 
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		localstack.registerProperties(registry);
+	}
+
 	@BeforeAll
 	static void beforeAll() throws IOException, InterruptedException {
-		localStackContainer.execInContainer("awslocal", "ses", "verify-email-identity", "--email", "hello@example.com");
+		localstack.awslocal("ses", "verify-email-identity", "--email", sender);
 	}
 
 	@Test
 	void consumeMessage() {
 		SimpleMailMessage simpleMailMessage = new SimpleMailMessage();
-		simpleMailMessage.setFrom("hello@example.com");
+		simpleMailMessage.setFrom(sender);
 		simpleMailMessage.setTo("bar@baz.com");
 		simpleMailMessage.setSubject("test subject");
 		simpleMailMessage.setText("test content");
 		this.mailSender.send(simpleMailMessage);
-		var restClient = RestClient.builder().baseUrl(localStackContainer.getEndpoint().toString()).build();
+		var restClient = RestClient.builder().baseUrl(localstack.getEndpoint().toString()).build();
 		var response = restClient.get()
-			.uri("/_aws/ses", uriBuilder -> uriBuilder.queryParam("email", "hello@example.com").build())
+			.uri("/_aws/ses", uriBuilder -> uriBuilder.queryParam("email", sender).build())
 			.retrieve()
 			.body(new ParameterizedTypeReference<Messages>() {
 			});
 		assertThat(response.messages()).hasSize(1);
 		Message message = response.messages().getFirst();
-		assertThat(message.source()).isEqualTo("hello@example.com");
+		assertThat(message.source()).isEqualTo(sender);
 		assertThat(message.subject()).isEqualTo("test subject");
 		assertThat(message.body().textPart()).isEqualTo("test content");
 	}
@@ -0,0 +1,20 @@
+package com.example.sqs;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Tuning of the batch listener container, whose queue is set with
+ * {@code sample.sqs.batch.queue} (default {@code batch-events}). Acknowledgements are
+ * flushed as a single {@code DeleteMessageBatch} call once either
+ * {@code acknowledgementInterval} elapses or {@code acknowledgementThreshold} messages
+ * are pending, whichever comes first.
+ */
+@ConfigurationProperties("sample.sqs.batch")
+public record BatchListenerProperties(@DefaultValue("100") int maxConcurrentMessages,
+		@DefaultValue("10") int maxMessagesPerPoll, @DefaultValue("1s") Duration pollTimeout,
+		@DefaultValue("500ms") Duration acknowledgementInterval, @DefaultValue("100") int acknowledgementThreshold) {
+
+}
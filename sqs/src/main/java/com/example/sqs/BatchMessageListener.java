@@ -0,0 +1,23 @@
+package com.example.sqs;
+
+import io.awspring.cloud.sqs.annotation.SqsListener;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+class BatchMessageListener {
+
+	private final MessageSink messageSink;
+
+	BatchMessageListener(MessageSink messageSink) {
+		this.messageSink = messageSink;
+	}
+
+	@SqsListener(value = "${sample.sqs.batch.queue:batch-events}", factory = SqsListenerConfiguration.BATCH_FACTORY)
+	void listen(List<Message<String>> messages) {
+		this.messageSink.accept(messages);
+	}
+
+}
@@ -0,0 +1,59 @@
+package com.example.sqs;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stands in for a handler that calls a slow downstream system with a blocking client,
+ * keeping track of how many calls are in flight at once and on which kind of thread.
+ */
+@Component
+public class BlockingIoHandler {
+
+	private final IoListenerProperties properties;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicInteger peakInFlight = new AtomicInteger();
+
+	private final LongAdder handled = new LongAdder();
+
+	private final LongAdder handledOnVirtualThreads = new LongAdder();
+
+	BlockingIoHandler(IoListenerProperties properties) {
+		this.properties = properties;
+	}
+
+	public void handle(String message) {
+		this.peakInFlight.accumulateAndGet(this.inFlight.incrementAndGet(), Math::max);
+		try {
+			Thread.sleep(this.properties.latency());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while handling " + message, ex);
+		}
+		finally {
+			this.inFlight.decrementAndGet();
+		}
+		if (Thread.currentThread().isVirtual()) {
+			this.handledOnVirtualThreads.increment();
+		}
+		this.handled.increment();
+	}
+
+	public long getHandledCount() {
+		return this.handled.sum();
+	}
+
+	public long getHandledOnVirtualThreadsCount() {
+		return this.handledOnVirtualThreads.sum();
+	}
+
+	public int getPeakInFlight() {
+		return this.peakInFlight.get();
+	}
+
+}
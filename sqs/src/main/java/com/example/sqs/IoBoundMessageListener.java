@@ -0,0 +1,28 @@
+package com.example.sqs;
+
+import io.awspring.cloud.sqs.annotation.SqsListener;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+@Component
+class IoBoundMessageListener {
+
+	private final BlockingIoHandler handler;
+
+	private final TaskExecutor handlerExecutor;
+
+	IoBoundMessageListener(BlockingIoHandler handler,
+			@Qualifier(IoListenerConfiguration.HANDLER_EXECUTOR) TaskExecutor handlerExecutor) {
+		this.handler = handler;
+		this.handlerExecutor = handlerExecutor;
+	}
+
+	@SqsListener(value = "${sample.sqs.io.queue:io-events}", factory = IoListenerConfiguration.IO_FACTORY)
+	CompletableFuture<Void> listen(String message) {
+		return CompletableFuture.runAsync(() -> this.handler.handle(message), this.handlerExecutor);
+	}
+
+}
@@ -0,0 +1,82 @@
+package com.example.sqs;
+
+import io.awspring.cloud.sqs.MessageExecutionThreadFactory;
+import io.awspring.cloud.sqs.config.MessageListenerContainerFactory;
+import io.awspring.cloud.sqs.config.SqsMessageListenerContainerFactory;
+import io.awspring.cloud.sqs.listener.SqsMessageListenerContainer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+
+/**
+ * Listener infrastructure for {@link IoBoundMessageListener}. The container's own
+ * components must run on {@link io.awspring.cloud.sqs.MessageExecutionThread platform
+ * threads}, so the blocking handler work is dispatched to a separate
+ * {@code ioHandlerExecutor} that is backed by virtual threads when
+ * {@code spring.threads.virtual.enabled} is set.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(IoListenerProperties.class)
+class IoListenerConfiguration {
+
+	static final String IO_FACTORY = "ioSqsListenerContainerFactory";
+
+	static final String HANDLER_EXECUTOR = "ioHandlerExecutor";
+
+	static final String COMPONENTS_EXECUTOR = "ioComponentsTaskExecutor";
+
+	// Not typed as SqsMessageListenerContainerFactory, see SqsListenerConfiguration
+	@Bean(IO_FACTORY)
+	MessageListenerContainerFactory<SqsMessageListenerContainer<Object>> ioSqsListenerContainerFactory(
+			SqsAsyncClient sqsAsyncClient, IoListenerProperties properties, Environment environment,
+			@Qualifier(COMPONENTS_EXECUTOR) ObjectProvider<TaskExecutor> componentsTaskExecutor) {
+		Threading threading = Threading.VIRTUAL.isActive(environment) ? Threading.VIRTUAL : Threading.PLATFORM;
+		return SqsMessageListenerContainerFactory.builder().sqsAsyncClient(sqsAsyncClient).configure((options) -> {
+			options.maxConcurrentMessages(properties.maxConcurrentMessages(threading))
+				.maxMessagesPerPoll(properties.maxMessagesPerPoll())
+				.pollTimeout(properties.pollTimeout());
+			componentsTaskExecutor.ifAvailable(options::componentsTaskExecutor);
+		}).build();
+	}
+
+	@Bean(HANDLER_EXECUTOR)
+	@ConditionalOnThreading(Threading.PLATFORM)
+	ThreadPoolTaskExecutor platformIoHandlerExecutor(IoListenerProperties properties) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix("sqs-io-");
+		executor.setCorePoolSize(properties.platformMaxConcurrentMessages());
+		executor.setMaxPoolSize(properties.platformMaxConcurrentMessages());
+		return executor;
+	}
+
+	@Bean(HANDLER_EXECUTOR)
+	@ConditionalOnThreading(Threading.VIRTUAL)
+	SimpleAsyncTaskExecutor virtualIoHandlerExecutor() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("sqs-io-");
+		executor.setVirtualThreads(true);
+		return executor;
+	}
+
+	// By default the container sizes its pool to maxConcurrentMessages; with the handler
+	// work offloaded to virtual threads a core-sized pool is enough.
+	@Bean(COMPONENTS_EXECUTOR)
+	@ConditionalOnThreading(Threading.VIRTUAL)
+	ThreadPoolTaskExecutor ioComponentsTaskExecutor() {
+		int threads = Runtime.getRuntime().availableProcessors();
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadFactory(new MessageExecutionThreadFactory("sqs-io-container-"));
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		return executor;
+	}
+
+}
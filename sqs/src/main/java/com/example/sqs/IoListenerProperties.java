@@ -0,0 +1,32 @@
+package com.example.sqs;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.thread.Threading;
+
+import java.time.Duration;
+
+/**
+ * Tuning of the listener for blocking I/O handlers, whose queue is set with
+ * {@code sample.sqs.io.queue} (default {@code io-events}). With
+ * {@code spring.threads.virtual.enabled=true} every in-flight message gets its own
+ * virtual thread, so {@code maxConcurrentMessages} can go far beyond the number of cores.
+ * On platform threads, each in-flight message holds a pool thread, so
+ * {@code platformMaxConcurrentMessages} applies instead and defaults to twice the number
+ * of cores.
+ */
+@ConfigurationProperties("sample.sqs.io")
+public record IoListenerProperties(@DefaultValue("1000") int maxConcurrentMessages,
+		Integer platformMaxConcurrentMessages, @DefaultValue("10") int maxMessagesPerPoll,
+		@DefaultValue("1s") Duration pollTimeout, @DefaultValue("100ms") Duration latency) {
+
+	public IoListenerProperties {
+		platformMaxConcurrentMessages = (platformMaxConcurrentMessages != null) ? platformMaxConcurrentMessages
+				: 2 * Runtime.getRuntime().availableProcessors();
+	}
+
+	int maxConcurrentMessages(Threading threading) {
+		return (threading == Threading.VIRTUAL) ? this.maxConcurrentMessages : this.platformMaxConcurrentMessages;
+	}
+
+}
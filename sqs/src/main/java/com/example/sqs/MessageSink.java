@@ -0,0 +1,33 @@
+package com.example.sqs;
+
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the messages and batches handed over by the batch listener. Safe to call from
+ * any number of listener threads; redeliveries are counted again.
+ */
+@Component
+public class MessageSink {
+
+	private final LongAdder received = new LongAdder();
+
+	private final LongAdder batches = new LongAdder();
+
+	public void accept(Collection<Message<String>> messages) {
+		this.received.add(messages.size());
+		this.batches.increment();
+	}
+
+	public long getReceivedCount() {
+		return this.received.sum();
+	}
+
+	public long getBatchCount() {
+		return this.batches.sum();
+	}
+
+}
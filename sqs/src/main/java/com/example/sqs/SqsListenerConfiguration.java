@@ -0,0 +1,40 @@
+package com.example.sqs;
+
+import io.awspring.cloud.sqs.config.MessageListenerContainerFactory;
+import io.awspring.cloud.sqs.config.SqsMessageListenerContainerFactory;
+import io.awspring.cloud.sqs.listener.ListenerMode;
+import io.awspring.cloud.sqs.listener.SqsMessageListenerContainer;
+import io.awspring.cloud.sqs.listener.acknowledgement.AcknowledgementOrdering;
+import io.awspring.cloud.sqs.listener.acknowledgement.handler.AcknowledgementMode;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(BatchListenerProperties.class)
+class SqsListenerConfiguration {
+
+	static final String BATCH_FACTORY = "batchSqsListenerContainerFactory";
+
+	// Declared as MessageListenerContainerFactory so that the auto-configured
+	// defaultSqsListenerContainerFactory, which backs off when any
+	// SqsMessageListenerContainerFactory bean exists, stays in place for plain
+	// @SqsListener methods
+	@Bean(BATCH_FACTORY)
+	MessageListenerContainerFactory<SqsMessageListenerContainer<Object>> batchSqsListenerContainerFactory(
+			SqsAsyncClient sqsAsyncClient, BatchListenerProperties properties) {
+		return SqsMessageListenerContainerFactory.builder()
+			.sqsAsyncClient(sqsAsyncClient)
+			.configure((options) -> options.listenerMode(ListenerMode.BATCH)
+				.maxConcurrentMessages(properties.maxConcurrentMessages())
+				.maxMessagesPerPoll(properties.maxMessagesPerPoll())
+				.pollTimeout(properties.pollTimeout())
+				.acknowledgementMode(AcknowledgementMode.ON_SUCCESS)
+				.acknowledgementInterval(properties.acknowledgementInterval())
+				.acknowledgementThreshold(properties.acknowledgementThreshold())
+				.acknowledgementOrdering(AcknowledgementOrdering.PARALLEL))
+			.build();
+	}
+
+}
@@ -0,0 +1,152 @@
+package com.example.sqs;
+
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
+import io.awspring.cloud.sqs.operations.SqsTemplate;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources(value = "sqs", exclusive = true)
+class SqsBatchListenerTests {
+
+	private static final Log logger = LogFactory.getLog(SqsBatchListenerTests.class);
+
+	private static final int MESSAGES = Integer.getInteger("sqs.batch.messages", 20_000);
+
+	private static final int BATCH_SIZE = 10;
+
+	private static final int MAX_IN_FLIGHT_BATCHES = 32;
+
+	static LocalStackNamespace localstack = LocalStackNamespace.forClass(SqsBatchListenerTests.class);
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		localstack.registerProperties(registry);
+		registry.add("sample.sqs.batch.queue", () -> localstack.name("batch-events"));
+	}
+
+	@Autowired
+	private SqsTemplate sqsTemplate;
+
+	@Autowired
+	private SqsAsyncClient sqsAsyncClient;
+
+	@Autowired
+	private PayloadTrackingMessageSink messageSink;
+
+	@Test
+	void drainsAllMessagesWithoutLoss() throws Exception {
+		String queue = localstack.name("batch-events");
+		long start = System.nanoTime();
+
+		Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT_BATCHES);
+		LongAdder failedSends = new LongAdder();
+		for (int offset = 0; offset < MESSAGES; offset += BATCH_SIZE) {
+			List<Message<String>> batch = new ArrayList<>(BATCH_SIZE);
+			IntStream.range(offset, Math.min(offset + BATCH_SIZE, MESSAGES))
+				.forEach((i) -> batch.add(MessageBuilder.withPayload("message-" + i).build()));
+			inFlight.acquire();
+			this.sqsTemplate.sendManyAsync(queue, batch).whenComplete((result, ex) -> {
+				failedSends.add((ex != null) ? BATCH_SIZE : result.failed().size());
+				inFlight.release();
+			});
+		}
+		inFlight.acquire(MAX_IN_FLIGHT_BATCHES);
+		long sent = System.nanoTime();
+		assertThat(failedSends.sum()).isZero();
+
+		Awaitility.waitAtMost(Duration.ofMinutes(5))
+			.pollInterval(Duration.ofMillis(100))
+			.until(() -> this.messageSink.getDistinctCount() == MESSAGES);
+		long drained = System.nanoTime();
+
+		assertThat(IntStream.range(0, MESSAGES)).allMatch((i) -> this.messageSink.contains("message-" + i));
+
+		// Batched acknowledgements must eventually delete everything that was processed.
+		String queueUrl = this.sqsAsyncClient.getQueueUrl((request) -> request.queueName(queue)).join().queueUrl();
+		Awaitility.waitAtMost(Duration.ofSeconds(60)).untilAsserted(() -> {
+			Map<QueueAttributeName, String> attributes = this.sqsAsyncClient
+				.getQueueAttributes((request) -> request.queueUrl(queueUrl)
+					.attributeNames(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES,
+							QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES_NOT_VISIBLE))
+				.join()
+				.attributes();
+			assertThat(attributes).containsEntry(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES, "0")
+				.containsEntry(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES_NOT_VISIBLE, "0");
+		});
+
+		long sendMillis = Duration.ofNanos(sent - start).toMillis();
+		long drainMillis = Duration.ofNanos(drained - start).toMillis();
+		logger.info(
+				"Batch listener: %d messages sent in %d ms, drained in %d ms (%.0f msg/s), %d batches, %d redeliveries"
+					.formatted(MESSAGES, sendMillis, drainMillis, MESSAGES * 1000.0 / Math.max(drainMillis, 1),
+							this.messageSink.getBatchCount(), this.messageSink.getReceivedCount() - MESSAGES));
+	}
+
+	@TestConfiguration(proxyBeanMethods = false)
+	static class TestConfig {
+
+		@Bean
+		@Primary
+		PayloadTrackingMessageSink payloadTrackingMessageSink() {
+			return new PayloadTrackingMessageSink();
+		}
+
+	}
+
+	/**
+	 * {@link MessageSink} that also keeps every payload, so that the test can check that
+	 * none was lost. Redeliveries are only stored once.
+	 */
+	static class PayloadTrackingMessageSink extends MessageSink {
+
+		private final Set<String> payloads = ConcurrentHashMap.newKeySet();
+
+		@Override
+		public void accept(Collection<Message<String>> messages) {
+			for (Message<String> message : messages) {
+				this.payloads.add(message.getPayload());
+			}
+			super.accept(messages);
+		}
+
+		boolean contains(String payload) {
+			return this.payloads.contains(payload);
+		}
+
+		int getDistinctCount() {
+			return this.payloads.size();
+		}
+
+	}
+
+}
@@ -0,0 +1,152 @@
+package com.example.sqs;
+
+import com.example.localstack.LocalStackNamespace;
+import com.example.localstack.LocalStackResources;
+import io.awspring.cloud.sqs.operations.SqsTemplate;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledIfEnvironmentVariable(named = "LOCALSTACK_AUTH_TOKEN", matches = ".+")
+@LocalStackResources(value = "sqs", exclusive = true)
+class SqsVirtualThreadsTests {
+
+	private static final Log logger = LogFactory.getLog(SqsVirtualThreadsTests.class);
+
+	private static final int MESSAGES = Integer.getInteger("sqs.io.messages", 10_000);
+
+	private static final int MAX_CONCURRENT_MESSAGES = Integer.getInteger("sqs.io.max-concurrent-messages", 2_000);
+
+	static LocalStackNamespace localstack = LocalStackNamespace.forClass(SqsVirtualThreadsTests.class);
+
+	@Test
+	void virtualThreadsSustainHighConcurrencyWithFewPlatformThreads() throws Exception {
+		Result platform = run(false);
+		Result virtual = run(true);
+
+		for (Result result : List.of(platform, virtual)) {
+			logger.info("%s threads: %.0f msg/s, %d peak busy, %d peak platform threads, %d live after run".formatted(
+					result.mode(), result.throughput(), result.peakInFlight(), result.peakPlatformThreads(),
+					result.liveThreads()));
+		}
+
+		// Redelivered messages are handled again, so only distinct payloads are exact
+		assertThat(platform.distinctPayloads()).isEqualTo(MESSAGES);
+		assertThat(virtual.distinctPayloads()).isEqualTo(MESSAGES);
+		assertThat(virtual.handledOnVirtualThreads()).isGreaterThanOrEqualTo(MESSAGES);
+		assertThat(platform.handledOnVirtualThreads()).isZero();
+		assertThat(virtual.peakPlatformThreads()).isLessThan(platform.peakPlatformThreads());
+	}
+
+	private Result run(boolean virtualThreads) throws Exception {
+		String mode = virtualThreads ? "virtual" : "platform";
+		String queue = localstack.name("io-" + mode);
+		Map<String, Object> properties = new HashMap<>();
+		localstack.registerProperties((name, value) -> properties.put(name, value.get()));
+		properties.put("spring.main.web-application-type", "none");
+		properties.put("spring.threads.virtual.enabled", virtualThreads);
+		properties.put("sample.sqs.io.queue", queue);
+		properties.put("sample.sqs.io.max-concurrent-messages", MAX_CONCURRENT_MESSAGES);
+		properties.put("sample.sqs.io.platform-max-concurrent-messages", MAX_CONCURRENT_MESSAGES);
+		properties.put("sample.sqs.batch.queue", localstack.name("batch-" + mode));
+
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SqsApplication.class,
+				PayloadTrackingConfiguration.class)
+			.properties(properties)
+			.run()) {
+			PayloadTrackingIoHandler handler = context.getBean(PayloadTrackingIoHandler.class);
+			threads.resetPeakThreadCount();
+			long start = System.nanoTime();
+			send(context.getBean(SqsTemplate.class), queue);
+			Awaitility.waitAtMost(Duration.ofMinutes(5))
+				.pollInterval(Duration.ofMillis(100))
+				.until(() -> handler.getDistinctCount() >= MESSAGES);
+			long elapsed = System.nanoTime() - start;
+			return new Result(mode, MESSAGES * 1_000_000_000.0 / elapsed, handler.getPeakInFlight(),
+					threads.getPeakThreadCount(), threads.getThreadCount(), handler.getHandledOnVirtualThreadsCount(),
+					handler.getDistinctCount());
+		}
+	}
+
+	private void send(SqsTemplate sqsTemplate, String queue) throws InterruptedException {
+		Semaphore inFlight = new Semaphore(32);
+		LongAdder failedSends = new LongAdder();
+		for (int offset = 0; offset < MESSAGES; offset += 10) {
+			List<Message<String>> batch = new ArrayList<>(10);
+			IntStream.range(offset, Math.min(offset + 10, MESSAGES))
+				.forEach((i) -> batch.add(MessageBuilder.withPayload("message-" + i).build()));
+			inFlight.acquire();
+			sqsTemplate.sendManyAsync(queue, batch).whenComplete((result, ex) -> {
+				failedSends.add((ex != null) ? batch.size() : result.failed().size());
+				inFlight.release();
+			});
+		}
+		inFlight.acquire(32);
+		assertThat(failedSends.sum()).as("failed sends").isZero();
+	}
+
+	record Result(String mode, double throughput, int peakInFlight, int peakPlatformThreads, int liveThreads,
+			long handledOnVirtualThreads, int distinctPayloads) {
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class PayloadTrackingConfiguration {
+
+		@Bean
+		@Primary
+		PayloadTrackingIoHandler payloadTrackingIoHandler(IoListenerProperties properties) {
+			return new PayloadTrackingIoHandler(properties);
+		}
+
+	}
+
+	/**
+	 * {@link BlockingIoHandler} that also keeps the distinct payloads it handled.
+	 */
+	static class PayloadTrackingIoHandler extends BlockingIoHandler {
+
+		private final Set<String> payloads = ConcurrentHashMap.newKeySet();
+
+		PayloadTrackingIoHandler(IoListenerProperties properties) {
+			super(properties);
+		}
+
+		@Override
+		public void handle(String message) {
+			super.handle(message);
+			this.payloads.add(message);
+		}
+
+		int getDistinctCount() {
+			return this.payloads.size();
+		}
+
+	}
+
+}